@@ -2,6 +2,14 @@ plugins {
 	java
 	id("org.springframework.boot") version "4.0.2"
 	id("io.spring.dependency-management") version "1.1.7"
+	// Microbenchmarks in src/jmh: `./gradlew jmh`
+	id("me.champeau.jmh") version "0.7.2"
+}
+
+// Fast-startup build: `./gradlew bootJar -PfastStartup` runs Spring AOT processing at build time.
+// Start such a jar with -Dspring.aot.enabled=true (the Dockerfile's `fast` target does this).
+if (project.hasProperty("fastStartup")) {
+	apply(plugin = "org.springframework.boot.aot")
 }
 
 group = "com.example"
@@ -24,9 +32,16 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-webmvc")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-security")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("org.springframework.boot:spring-boot-starter-aspectj")
+
+	// Database (compile scope for LISTEN/NOTIFY via PGConnection)
+	implementation("org.postgresql:postgresql")
 
-	// Database
-	runtimeOnly("org.postgresql:postgresql")
+	// Reactive read path (quiz.read-path=reactive); configured by hand, without Boot's R2DBC starter
+	implementation("org.springframework.data:spring-data-r2dbc")
+	implementation("io.r2dbc:r2dbc-pool")
+	runtimeOnly("org.postgresql:r2dbc-postgresql")
 
 	// JWT
 	implementation("io.jsonwebtoken:jjwt-api:0.12.3")
@@ -40,6 +55,7 @@ dependencies {
 	// H2 Database (Testing)
 	testRuntimeOnly("com.h2database:h2")
 	testImplementation("com.h2database:h2")
+	testRuntimeOnly("io.r2dbc:r2dbc-h2")
 
 	// Testing
 	testImplementation("org.springframework.boot:spring-boot-starter-data-jpa-test")
@@ -49,6 +65,29 @@ dependencies {
 	testImplementation("org.springframework.boot:spring-boot-starter-webmvc-test")
 }
 
+jmh {
+	// `-Pjmh.includes=WordleEvaluator` narrows the run; `-Pjmh.profilers=gc` reports allocation per operation
+	project.findProperty("jmh.includes")?.let { includes.set(listOf(it.toString())) }
+	project.findProperty("jmh.profilers")?.let { profilers.set(listOf(it.toString())) }
+}
+
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// Timing and memory assertions need a quiet machine, so `test` skips them: `./gradlew perfTest`
+tasks.test {
+	useJUnitPlatform {
+		excludeTags("perf")
+	}
+}
+
+tasks.register<Test>("perfTest") {
+	description = "Runs the timing and memory tests tagged perf."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("perf")
+	}
+}
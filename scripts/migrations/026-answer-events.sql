@@ -0,0 +1,20 @@
+-- Append-only log of quiz answers, written in batches by AnswerHistoryWriter.
+-- Needed before 040-word-pair-keys.sql, which repoints the events of merged
+-- duplicate pairs. The ids are plain columns: events are only ever removed
+-- with their user by AccountPurgeJob.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS answer_events (
+    id           bigserial    PRIMARY KEY,
+    user_id      bigint       NOT NULL,
+    word_pair_id bigint       NOT NULL,
+    correct      boolean      NOT NULL,
+    answer       varchar(255),
+    latency_ms   bigint,
+    answered_at  timestamp(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_answer_events_user_time ON answer_events (user_id, answered_at);
+
+COMMIT;
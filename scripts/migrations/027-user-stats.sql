@@ -0,0 +1,21 @@
+-- Per-user aggregate behind GET /api/stats, one row per account, updated on
+-- every answer and word write. The daily series and weakest words are short
+-- comma-separated lists stored inline. Needed before 040-word-pair-keys.sql, which
+-- recounts total_words; 051-user-stats-seed.sql fills in existing accounts.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS user_stats (
+    user_id          bigint        PRIMARY KEY,
+    total_words      bigint        NOT NULL,
+    total_answers    bigint        NOT NULL,
+    correct_answers  bigint        NOT NULL,
+    current_streak   integer       NOT NULL,
+    best_streak      integer       NOT NULL,
+    day_streak       integer       NOT NULL,
+    last_active_date date,
+    daily_stats      varchar(1024),
+    weak_words       varchar(1024)
+);
+
+COMMIT;
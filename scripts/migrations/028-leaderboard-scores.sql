@@ -0,0 +1,16 @@
+-- Checkpoint of the in-memory leaderboard, one row per user who answered
+-- correctly at least once. LeaderboardService adds its deltas every
+-- leaderboard.checkpoint-interval-ms and rebuilds its indexes from here;
+-- AccountPurgeJob deletes the row of a closed account.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS leaderboard_scores (
+    user_id        bigint       PRIMARY KEY,
+    username       varchar(255) NOT NULL,
+    all_time_score bigint       NOT NULL,
+    weekly_score   bigint       NOT NULL,
+    week_start     date         NOT NULL
+);
+
+COMMIT;
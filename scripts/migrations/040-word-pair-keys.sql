@@ -0,0 +1,51 @@
+-- Adds the normalized forms and the per-user unique key on word_pairs.
+-- Needed once on databases created before the key existed (the prod profile
+-- only validates the schema). Duplicates are folded into the oldest pair:
+-- their answer counts are added to it and their answer history is moved to it.
+
+BEGIN;
+
+ALTER TABLE word_pairs
+    ADD COLUMN IF NOT EXISTS polish_key varchar(255),
+    ADD COLUMN IF NOT EXISTS ukrainian_key varchar(255);
+
+-- Same rule as WordPair.normalize: trim, collapse whitespace, lower case
+UPDATE word_pairs
+SET polish_key    = lower(regexp_replace(btrim(polish_word), '\s+', ' ', 'g')),
+    ukrainian_key = lower(regexp_replace(btrim(ukrainian_word), '\s+', ' ', 'g'))
+WHERE polish_key IS NULL OR ukrainian_key IS NULL;
+
+CREATE TEMPORARY TABLE word_pair_duplicates ON COMMIT DROP AS
+SELECT id, keep_id
+FROM (SELECT id, min(id) OVER (PARTITION BY user_id, polish_key, ukrainian_key) AS keep_id
+      FROM word_pairs) ranked
+WHERE id <> keep_id;
+
+UPDATE word_pairs w
+SET correct_count   = w.correct_count + d.correct_count,
+    incorrect_count = w.incorrect_count + d.incorrect_count
+FROM (SELECT dup.keep_id, sum(wp.correct_count) AS correct_count, sum(wp.incorrect_count) AS incorrect_count
+      FROM word_pair_duplicates dup
+               JOIN word_pairs wp ON wp.id = dup.id
+      GROUP BY dup.keep_id) d
+WHERE w.id = d.keep_id;
+
+UPDATE answer_events e
+SET word_pair_id = d.keep_id
+FROM word_pair_duplicates d
+WHERE e.word_pair_id = d.id;
+
+DELETE FROM word_pairs w
+USING word_pair_duplicates d
+WHERE w.id = d.id;
+
+-- Word totals counted the duplicates
+UPDATE user_stats s
+SET total_words = (SELECT count(*) FROM word_pairs w WHERE w.user_id = s.user_id);
+
+ALTER TABLE word_pairs
+    ALTER COLUMN polish_key SET NOT NULL,
+    ALTER COLUMN ukrainian_key SET NOT NULL,
+    ADD CONSTRAINT uk_word_pairs_user_forms UNIQUE (user_id, polish_key, ukrainian_key);
+
+COMMIT;
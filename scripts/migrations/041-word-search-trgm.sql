@@ -0,0 +1,11 @@
+-- Trigram indexes for GET /api/words/search on PostgreSQL. Needs
+-- 040-word-pair-keys.sql first. Run outside a transaction: CREATE INDEX
+-- CONCURRENTLY does not block writers while the indexes are built.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_word_pairs_polish_key_trgm
+    ON word_pairs USING gin (polish_key gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_word_pairs_ukrainian_key_trgm
+    ON word_pairs USING gin (ukrainian_key gin_trgm_ops);
@@ -0,0 +1,26 @@
+-- Adds word_terms, the per-language lookup rows behind spell-check, and fills
+-- it from the existing word pairs. Needs 040-word-pair-keys.sql first. Rows
+-- are keyed by the ISO 639-1 code of their language ('pl', 'uk').
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS word_terms (
+    id           bigserial PRIMARY KEY,
+    word_pair_id bigint       NOT NULL,
+    user_id      bigint       NOT NULL,
+    language     varchar(2)   NOT NULL,
+    text         varchar(255) NOT NULL,
+    term_key     varchar(255) NOT NULL,
+    CONSTRAINT uk_word_terms_pair_language UNIQUE (word_pair_id, language)
+);
+
+CREATE INDEX IF NOT EXISTS idx_word_terms_lookup ON word_terms (user_id, language, term_key);
+
+INSERT INTO word_terms (word_pair_id, user_id, language, text, term_key)
+SELECT w.id, w.user_id, t.language, t.text, t.term_key
+FROM word_pairs w
+         CROSS JOIN LATERAL (VALUES ('pl', w.polish_word, w.polish_key),
+                                    ('uk', w.ukrainian_word, w.ukrainian_key)) AS t(language, text, term_key)
+ON CONFLICT (word_pair_id, language) DO NOTHING;
+
+COMMIT;
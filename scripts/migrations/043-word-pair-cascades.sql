@@ -0,0 +1,34 @@
+-- Lets the database delete word terms with their pair and word pairs with
+-- their user, so bulk deletes are single statements. Needs 042-word-terms.sql
+-- first. Replaces the foreign key Hibernate generated for word_pairs.user_id,
+-- whatever its name.
+
+BEGIN;
+
+DO $$
+DECLARE
+    existing text;
+BEGIN
+    FOR existing IN
+        SELECT c.conname
+        FROM pg_constraint c
+                 JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.conrelid = 'word_pairs'::regclass
+          AND c.contype = 'f'
+          AND a.attname = 'user_id'
+    LOOP
+        EXECUTE format('ALTER TABLE word_pairs DROP CONSTRAINT %I', existing);
+    END LOOP;
+END $$;
+
+ALTER TABLE word_pairs
+    ADD CONSTRAINT fk_word_pairs_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE;
+
+DELETE FROM word_terms t
+WHERE NOT EXISTS (SELECT 1 FROM word_pairs w WHERE w.id = t.word_pair_id);
+
+ALTER TABLE word_terms
+    DROP CONSTRAINT IF EXISTS fk_word_terms_pair,
+    ADD CONSTRAINT fk_word_terms_pair FOREIGN KEY (word_pair_id) REFERENCES word_pairs (id) ON DELETE CASCADE;
+
+COMMIT;
@@ -0,0 +1,10 @@
+-- Adds the closing time of an account. Accounts with deleted_at set are
+-- rejected at login and on every request, and purged by AccountPurgeJob.
+
+BEGIN;
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS deleted_at timestamp(6);
+
+CREATE INDEX IF NOT EXISTS idx_users_deleted_at ON users (deleted_at);
+
+COMMIT;
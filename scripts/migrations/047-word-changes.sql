@@ -0,0 +1,20 @@
+-- Change log behind GET /api/words/changes. One row per pair and write;
+-- kind is 0 inserted, 1 updated, 2 deleted. Rows of deleted pairs are their
+-- tombstones, so there is no foreign key to word_pairs. Rows older than
+-- word-changes.retention-days are deleted by WordChangeCompactor. Existing
+-- pairs get no rows: clients start with a snapshot, which has no cursor yet.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS word_changes (
+    id           bigserial    PRIMARY KEY,
+    user_id      bigint       NOT NULL,
+    word_pair_id bigint       NOT NULL,
+    kind         smallint     NOT NULL CHECK (kind BETWEEN 0 AND 2),
+    changed_at   timestamp(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_word_changes_feed ON word_changes (user_id, changed_at, id);
+CREATE INDEX IF NOT EXISTS idx_word_changes_changed_at ON word_changes (changed_at);
+
+COMMIT;
@@ -0,0 +1,22 @@
+-- First responses to requests sent with an Idempotency-Key, used when
+-- idempotency.store=DATABASE. A row is inserted before the request runs, so
+-- the unique key decides which instance runs it; status stays null until the
+-- response is stored. Expired rows are deleted by IdempotencyService.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    id           bigserial    PRIMARY KEY,
+    user_id      bigint       NOT NULL,
+    scope        varchar(300) NOT NULL,
+    request_hash varchar(64)  NOT NULL,
+    status       integer,
+    body         bytea,
+    created_at   timestamp(6) NOT NULL,
+    expires_at   timestamp(6) NOT NULL,
+    CONSTRAINT uk_idempotency_keys_scope UNIQUE (user_id, scope)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
+
+COMMIT;
@@ -0,0 +1,33 @@
+-- Short-lived access tokens with rotating refresh tokens. Access tokens carry
+-- users.token_version; bumping it revokes them, and token_revocations tells
+-- the other instances. Tokens issued before this change have no version and
+-- are rejected, so users log in once more.
+
+BEGIN;
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version integer NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id         bigserial    PRIMARY KEY,
+    user_id    bigint       NOT NULL,
+    family_id  varchar(36)  NOT NULL,
+    token_hash varchar(64)  NOT NULL UNIQUE,
+    created_at timestamp(6) NOT NULL,
+    expires_at timestamp(6) NOT NULL,
+    used_at    timestamp(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_id ON refresh_tokens (user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family_id ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+
+CREATE TABLE IF NOT EXISTS token_revocations (
+    id            bigserial    PRIMARY KEY,
+    user_id       bigint       NOT NULL,
+    token_version integer      NOT NULL,
+    revoked_at    timestamp(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_token_revocations_revoked_at ON token_revocations (revoked_at);
+
+COMMIT;
@@ -0,0 +1,11 @@
+-- Creates the user_stats row of every account that has none yet. New
+-- accounts get theirs at signup, so reading stats never counts word_pairs.
+
+BEGIN;
+
+INSERT INTO user_stats (user_id, total_words, total_answers, correct_answers, current_streak, best_streak, day_streak)
+SELECT u.id, (SELECT count(*) FROM word_pairs w WHERE w.user_id = u.id), 0, 0, 0, 0, 0
+FROM users u
+ON CONFLICT (user_id) DO NOTHING;
+
+COMMIT;
@@ -0,0 +1,25 @@
+-- Scopes the GET /api/words/search indexes to the user. The trigram indexes
+-- from 041-word-search-trgm.sql cover the key columns only, so every search
+-- matched rows of all users before the user_id filter. btree_gin lets the
+-- user_id column lead the GIN index; the text_pattern_ops B-trees serve
+-- queries of one or two characters, which yield no trigrams and are searched
+-- by prefix instead. Run outside a transaction: CREATE INDEX CONCURRENTLY
+-- does not block writers while the indexes are built.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_word_pairs_user_polish_key_trgm
+    ON word_pairs USING gin (user_id, polish_key gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_word_pairs_user_ukrainian_key_trgm
+    ON word_pairs USING gin (user_id, ukrainian_key gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_word_pairs_user_polish_key_prefix
+    ON word_pairs (user_id, polish_key text_pattern_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_word_pairs_user_ukrainian_key_prefix
+    ON word_pairs (user_id, ukrainian_key text_pattern_ops);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_word_pairs_polish_key_trgm;
+DROP INDEX CONCURRENTLY IF EXISTS idx_word_pairs_ukrainian_key_trgm;
@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Compares the blocking (JPA) and reactive (R2DBC) read paths under high
+# concurrency on a small CPU budget.
+#
+# Requires: a built jar (./gradlew bootJar), a running Postgres reachable with
+# the usual DB_URL/DB_USER/DB_PASSWORD (defaults match docker-compose.yml), curl,
+# jq and hey (https://github.com/rakyll/hey).
+#
+# Usage: scripts/read-path-load-test.sh [concurrency] [duration] [cpus]
+set -euo pipefail
+
+CONCURRENCY=${1:-512}
+DURATION=${2:-30s}
+CPUS=${3:-2}
+PORT=${PORT:-8099}
+JAR=${JAR:-build/libs/wordle-0.0.1-SNAPSHOT.jar}
+BASE="http://localhost:${PORT}"
+
+run_mode() {
+  local mode=$1
+  echo "=== read path: ${mode} (${CPUS} CPUs, ${CONCURRENCY} concurrent, ${DURATION}) ==="
+
+  QUIZ_READ_PATH=${mode} java -XX:ActiveProcessorCount="${CPUS}" -jar "${JAR}" \
+    --server.port="${PORT}" --logging.level.root=WARN >"/tmp/wordle-${mode}.log" 2>&1 &
+  local pid=$!
+  trap 'kill ${pid} 2>/dev/null || true' RETURN
+
+  until curl -sf "${BASE}/health" >/dev/null; do sleep 0.5; done
+
+  local user="load-${mode}-$(date +%s)"
+  local token
+  token=$(curl -sf -H 'Content-Type: application/json' \
+    -d "{\"username\":\"${user}\",\"email\":\"${user}@example.com\",\"password\":\"password123\"}" \
+    "${BASE}/auth/signup" | jq -r .token)
+
+  local words
+  words=$(for i in $(seq 1 200); do printf '{"polishWord":"slowo%d","ukrainianWord":"слово%d"},' "$i" "$i"; done)
+  curl -sf -o /dev/null -H "Authorization: Bearer ${token}" -H 'Content-Type: application/json' \
+    -d "{\"wordPairs\":[${words%,}]}" "${BASE}/api/words/bulk"
+
+  for path in "/api/quiz/multiple-choice" "/api/words"; do
+    echo "--- GET ${path}"
+    hey -z "${DURATION}" -c "${CONCURRENCY}" -H "Authorization: Bearer ${token}" "${BASE}${path}" \
+      | grep -E 'Requests/sec|Average|99%|Status code|\[[0-9]{3}\]'
+  done
+}
+
+run_mode blocking
+run_mode reactive
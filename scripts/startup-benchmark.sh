@@ -0,0 +1,44 @@
+#!/usr/bin/env bash
+# Measures time from `docker run` to the first successful GET /health for the
+# default image and for the fast-startup image (Spring AOT + CDS archive).
+#
+# Requires: docker, curl, and the Postgres from docker-compose.yml
+# (docker compose up -d db). Containers use the host network to reach it.
+#
+# Usage: scripts/startup-benchmark.sh [runs]
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-8098}
+CPUS=${CPUS:-1}
+DB_URL=${DB_URL:-jdbc:postgresql://localhost:5432/wordle_db}
+DB_USER=${DB_USER:-wordle_user}
+DB_PASSWORD=${DB_PASSWORD:-S3cret}
+
+docker build -q --target runtime -t wordle:default . >/dev/null
+docker build -q --target fast -t wordle:fast . >/dev/null
+
+now_ms() { date +%s%3N; }
+
+measure() {
+  local image=$1
+  local times=()
+  for _ in $(seq 1 "${RUNS}"); do
+    local start
+    start=$(now_ms)
+    local container
+    container=$(docker run -d --rm --network host --cpus "${CPUS}" \
+      -e DB_URL="${DB_URL}" -e DB_USER="${DB_USER}" -e DB_PASSWORD="${DB_PASSWORD}" \
+      "${image}" --server.port="${PORT}")
+    until curl -sf "http://localhost:${PORT}/health" >/dev/null; do sleep 0.05; done
+    times+=($(( $(now_ms) - start )))
+    docker stop -t 5 "${container}" >/dev/null
+  done
+  local sorted
+  sorted=$(printf '%s\n' "${times[@]}" | sort -n)
+  printf '%-14s runs: %s  median: %s ms\n' "${image}" "$(echo "${sorted}" | tr '\n' ' ')" \
+    "$(echo "${sorted}" | sed -n "$(( (RUNS + 1) / 2 ))p")"
+}
+
+measure wordle:default
+measure wordle:fast
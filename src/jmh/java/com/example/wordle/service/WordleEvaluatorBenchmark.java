@@ -0,0 +1,91 @@
+package com.example.wordle.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scores every guess against every target of the daily puzzle list, and
+ * replays pruning of that list. Run with {@code ./gradlew jmh}; add
+ * {@code -Pjmh.profilers=gc} to confirm that evaluation allocates nothing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordleEvaluatorBenchmark {
+
+    private long[] words;
+    private WordleCandidates candidates;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> list = new ArrayList<>();
+        try (InputStream in = getClass().getResourceAsStream("/daily-puzzle/words.txt");
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank() && !line.startsWith("#")) {
+                    list.add(line.split(";", 2)[0].strip());
+                }
+            }
+        }
+        words = new long[list.size()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = WordleEvaluator.encode(list.get(i));
+        }
+        candidates = WordleCandidates.of(list);
+    }
+
+    /**
+     * All target/guess pairs; divide the time by {@code words.length²} for one evaluation.
+     */
+    @Benchmark
+    public void evaluateAllPairs(Blackhole blackhole) {
+        for (long target : words) {
+            for (long guess : words) {
+                blackhole.consume(WordleEvaluator.evaluate(target, guess));
+            }
+        }
+    }
+
+    /**
+     * One game per target: guess the first remaining candidate until solved.
+     */
+    @Benchmark
+    public int solveEveryTarget() {
+        int guesses = 0;
+        for (long target : words) {
+            candidates.reset();
+            while (true) {
+                long guess = candidates.get(0);
+                guesses++;
+                int pattern = WordleEvaluator.evaluate(target, guess);
+                if (guess == target) {
+                    break;
+                }
+                candidates.prune(guess, pattern);
+            }
+        }
+        return guesses;
+    }
+}
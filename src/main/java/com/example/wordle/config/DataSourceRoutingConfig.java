@@ -0,0 +1,72 @@
+package com.example.wordle.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured datasource with a primary pool, a replica pool
+ * and a {@link ReadWriteRoutingDataSource} in front of them.
+ * {@code @Transactional(readOnly = true)} work goes to the replica.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${spring.datasource.driverClassName:}") String driverClassName,
+            @Value("${datasource.primary.pool-size:10}") int poolSize) {
+        return pool("primary", url, username, password, driverClassName, poolSize);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username}") String username,
+            @Value("${datasource.replica.password:}") String password,
+            @Value("${spring.datasource.driverClassName:}") String driverClassName,
+            @Value("${datasource.replica.pool-size:10}") int poolSize) {
+        return pool("replica", url, username, password, driverClassName, poolSize);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${datasource.routing.sticky-primary-ms:5000}") long stickyMillis) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(stickyMillis);
+        routing.setTargetDataSources(Map.<Object, Object>of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primary,
+                ReadWriteRoutingDataSource.Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password,
+                                         String driverClassName, int poolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        if (!driverClassName.isEmpty()) {
+            dataSource.setDriverClassName(driverClassName);
+        }
+        dataSource.setMaximumPoolSize(poolSize);
+        return dataSource;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.wordle.config;
+
+import com.example.wordle.controller.ReactiveReadHandler;
+import com.example.wordle.repository.reactive.ReactiveWordPairRepository;
+import com.example.wordle.service.QuizService;
+import com.example.wordle.service.VocabularyCache;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.r2dbc.config.AbstractR2dbcConfiguration;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+import org.springframework.web.servlet.function.support.RouterFunctionMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.time.Duration;
+
+/**
+ * Serves the two hot read endpoints from R2DBC instead of JPA when
+ * {@code quiz.read-path=reactive}. The R2DBC pool is separate from Hikari and
+ * is configured here rather than through Boot's R2DBC auto-configuration, so
+ * that JPA stays the only transaction manager. The routes are mapped ahead of
+ * the annotated controllers, which keep serving everything else.
+ */
+@Configuration
+@ConditionalOnProperty(name = "quiz.read-path", havingValue = "reactive")
+@EnableR2dbcRepositories(basePackageClasses = ReactiveWordPairRepository.class)
+public class ReactiveReadPathConfig extends AbstractR2dbcConfiguration {
+
+    @Value("${quiz.r2dbc.url}")
+    private String url;
+
+    @Value("${quiz.r2dbc.username}")
+    private String username;
+
+    @Value("${quiz.r2dbc.password}")
+    private String password;
+
+    @Value("${quiz.r2dbc.pool.initial-size:4}")
+    private int initialSize;
+
+    @Value("${quiz.r2dbc.pool.max-size:16}")
+    private int maxSize;
+
+    @Override
+    @Bean
+    public ConnectionPool connectionFactory() {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxIdleTime(Duration.ofMinutes(30))
+                .build());
+    }
+
+    @Bean
+    public ReactiveReadHandler reactiveReadHandler(ReactiveWordPairRepository wordPairRepository,
+                                                   VocabularyCache vocabularyCache,
+                                                   QuizService quizService) {
+        return new ReactiveReadHandler(wordPairRepository, vocabularyCache, quizService);
+    }
+
+    @Bean
+    public RouterFunctionMapping reactiveReadMapping(ReactiveReadHandler handler,
+                                                     RequestMappingHandlerAdapter handlerAdapter) {
+        RouterFunction<ServerResponse> routes = RouterFunctions.route()
+                .GET("/api/words", handler::getAllWordPairs)
+                .GET("/api/quiz/multiple-choice", handler::getMultipleChoiceQuestion)
+                .build();
+        RouterFunctionMapping mapping = new RouterFunctionMapping(routes);
+        mapping.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        mapping.setMessageConverters(handlerAdapter.getMessageConverters());
+        return mapping;
+    }
+}
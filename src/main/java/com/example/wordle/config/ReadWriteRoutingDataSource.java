@@ -0,0 +1,96 @@
+package com.example.wordle.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ * A user who has just written is pinned to the primary for {@code stickyMillis},
+ * so they read their own writes even while the replica lags behind. Reads whose
+ * result outlives the request, such as cached snapshots, go through
+ * {@link #readFromPrimary} instead.
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the route is chosen after the transaction's read-only flag is known.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final long stickyMillis;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadWriteRoutingDataSource(long stickyMillis) {
+        this.stickyMillis = stickyMillis;
+    }
+
+    /**
+     * Runs {@code read} with connections taken from the primary, without pinning
+     * the user to it. Connections are chosen lazily, so this applies when
+     * {@code read} opens its own transaction or issues the first statement of
+     * the current one.
+     */
+    public static <T> T readFromPrimary(Supplier<T> read) {
+        if (Boolean.TRUE.equals(PRIMARY_READS.get())) {
+            return read.get();
+        }
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            PRIMARY_READS.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || Boolean.TRUE.equals(PRIMARY_READS.get())) {
+            return Route.PRIMARY;
+        }
+
+        String username = currentUsername();
+        long now = System.currentTimeMillis();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (username != null && stickyMillis > 0) {
+                pinnedUntil.put(username, now + stickyMillis);
+                if (pinnedUntil.size() > PRUNE_THRESHOLD) {
+                    pinnedUntil.values().removeIf(until -> until <= now);
+                }
+            }
+            return Route.PRIMARY;
+        }
+
+        if (username != null) {
+            Long until = pinnedUntil.get(username);
+            if (until != null) {
+                if (until > now) {
+                    return Route.PRIMARY;
+                }
+                pinnedUntil.remove(username, until);
+            }
+        }
+        return Route.REPLICA;
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
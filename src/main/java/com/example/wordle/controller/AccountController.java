@@ -0,0 +1,30 @@
+package com.example.wordle.controller;
+
+import com.example.wordle.service.AccountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/account")
+@RequiredArgsConstructor
+public class AccountController {
+
+    private final AccountService accountService;
+
+    // 202: the account is closed now, its data is purged in the background
+    @DeleteMapping
+    public ResponseEntity<Void> deleteAccount() {
+        accountService.deleteCurrentAccount();
+        return ResponseEntity.accepted().build();
+    }
+
+    // Logs out everywhere: every access and refresh token of the caller stops working
+    @DeleteMapping("/sessions")
+    public ResponseEntity<Void> deleteSessions() {
+        accountService.revokeAllSessions();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -2,8 +2,10 @@ package com.example.wordle.controller;
 
 import com.example.wordle.dto.AuthResponse;
 import com.example.wordle.dto.LoginRequest;
+import com.example.wordle.dto.RefreshTokenRequest;
 import com.example.wordle.dto.SignupRequest;
 import com.example.wordle.service.AuthService;
+import com.example.wordle.service.TokenService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final TokenService tokenService;
 
     @PostMapping("/signup")
     public ResponseEntity<AuthResponse> signup(@Valid @RequestBody SignupRequest request) {
@@ -29,4 +32,16 @@ public class AuthController {
         log.info("Someone is going to login...");
         return ResponseEntity.ok(authService.login(request));
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(tokenService.refresh(request.getRefreshToken()));
+    }
+
+    // Ends this session only; DELETE /api/account/sessions ends all of them
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        tokenService.logout(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.example.wordle.controller;
+
+import com.example.wordle.dto.DailyGuessRequest;
+import com.example.wordle.dto.DailyGuessResultDTO;
+import com.example.wordle.service.DailyPuzzleService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Public daily puzzle; no account needed. The GET body is served as stored in
+ * the snapshot, and conditional requests with the day's ETag get a 304.
+ */
+@RestController
+@RequestMapping("/daily-puzzle")
+@RequiredArgsConstructor
+public class DailyPuzzleController {
+
+    private final DailyPuzzleService dailyPuzzleService;
+
+    @GetMapping
+    public ResponseEntity<byte[]> getPuzzle() {
+        DailyPuzzleService.Puzzle puzzle = dailyPuzzleService.current();
+        Duration untilNext = Duration.between(Instant.now(), puzzle.expires());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(puzzle.etag())
+                .cacheControl(CacheControl.maxAge(untilNext.isNegative() ? Duration.ZERO : untilNext).cachePublic())
+                .body(puzzle.body());
+    }
+
+    @PostMapping("/guess")
+    public ResponseEntity<DailyGuessResultDTO> guess(@Valid @RequestBody DailyGuessRequest request) {
+        return ResponseEntity.ok(dailyPuzzleService.guess(request.getGuess()));
+    }
+}
@@ -1,15 +1,36 @@
 package com.example.wordle.controller;
 
+import com.example.wordle.service.AnswerCounterBuffer;
+import com.example.wordle.service.QuizReadCircuitBreaker;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @Slf4j
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final QuizReadCircuitBreaker quizReadCircuitBreaker;
+    private final AnswerCounterBuffer answerCounterBuffer;
+
+    /**
+     * Stays 200 while quiz reads are degraded: the instance still serves them,
+     * from snapshots, so it should not be taken out of rotation.
+     */
     @GetMapping("/health")
-    public ResponseEntity<Void> health() {
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Map<String, Object>> health() {
+        QuizReadCircuitBreaker.State quizReads = quizReadCircuitBreaker.state();
+        if (quizReads == QuizReadCircuitBreaker.State.CLOSED) {
+            return ResponseEntity.ok(Map.of("status", "UP"));
+        }
+        return ResponseEntity.ok(Map.of(
+                "status", "DEGRADED",
+                "quizReads", quizReads,
+                "pendingAnswers", answerCounterBuffer.buffered()
+        ));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package com.example.wordle.controller;
+
+import com.example.wordle.entity.Language;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lets request parameters name a language by code or name in any case, the
+ * same way {@link Language#parse} accepts it in JSON bodies.
+ */
+@Component
+public class LanguageParameterConverter implements Converter<String, Language> {
+
+    @Override
+    public Language convert(String value) {
+        return Language.parse(value.trim());
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.wordle.controller;
+
+import com.example.wordle.dto.LeaderboardDTO;
+import com.example.wordle.dto.LeaderboardPeriod;
+import com.example.wordle.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    @GetMapping
+    public ResponseEntity<LeaderboardDTO> getLeaderboard(
+            @RequestParam(defaultValue = "ALL_TIME") LeaderboardPeriod period,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(period, limit));
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.wordle.controller;
 
+import com.example.wordle.dto.MultipleChoiceAnswerRequest;
+import com.example.wordle.dto.QuizAnswerRequest;
 import com.example.wordle.dto.QuizQuestionDTO;
 import com.example.wordle.dto.QuizResultDTO;
 import com.example.wordle.dto.SpellCheckRequest;
+import com.example.wordle.entity.Language;
 import com.example.wordle.service.QuizService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,13 +21,25 @@ public class QuizController {
 
     @GetMapping("/multiple-choice")
     public ResponseEntity<QuizQuestionDTO> getMultipleChoiceQuestion(
-            @RequestParam(defaultValue = "UKRAINIAN") String questionLanguage) {
+            @RequestParam(defaultValue = "UKRAINIAN") Language questionLanguage) {
         return ResponseEntity.ok(quizService.getMultipleChoiceQuestion(questionLanguage));
     }
 
+    @PostMapping("/multiple-choice/answer")
+    public ResponseEntity<QuizResultDTO> answerMultipleChoice(
+            @Valid @RequestBody MultipleChoiceAnswerRequest request) {
+        return ResponseEntity.ok(quizService.answerMultipleChoice(request));
+    }
+
     @PostMapping("/spell-check")
     public ResponseEntity<QuizResultDTO> checkSpelling(
             @Valid @RequestBody SpellCheckRequest request) {
         return ResponseEntity.ok(quizService.checkSpelling(request));
     }
+
+    @PostMapping("/answer")
+    public ResponseEntity<QuizResultDTO> answerQuestion(
+            @Valid @RequestBody QuizAnswerRequest request) {
+        return ResponseEntity.ok(quizService.answerQuestion(request));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.example.wordle.controller;
+
+import com.example.wordle.dto.WordPairDTO;
+import com.example.wordle.entity.Language;
+import com.example.wordle.entity.WordPairRow;
+import com.example.wordle.exception.BadRequestException;
+import com.example.wordle.repository.reactive.ReactiveWordPairRepository;
+import com.example.wordle.security.AuthenticatedUser;
+import com.example.wordle.service.QuizService;
+import com.example.wordle.service.VocabularyCache;
+import com.example.wordle.service.VocabularySnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Non-blocking versions of {@code GET /api/words} and
+ * {@code GET /api/quiz/multiple-choice}, served from R2DBC when
+ * {@code quiz.read-path=reactive}. The request thread is released while the
+ * database works; the response is written on an async dispatch.
+ */
+@RequiredArgsConstructor
+public class ReactiveReadHandler {
+
+    private final ReactiveWordPairRepository wordPairRepository;
+    private final VocabularyCache vocabularyCache;
+    private final QuizService quizService;
+
+    public ServerResponse getAllWordPairs(ServerRequest request) {
+        Long userId = AuthenticatedUser.current().getId();
+        return ServerResponse.async(wordPairRepository.findByUserId(userId)
+                .map(ReactiveReadHandler::toDTO)
+                .collectList()
+                .map(words -> ServerResponse.ok().body(words)));
+    }
+
+    public ServerResponse getMultipleChoiceQuestion(ServerRequest request) {
+        Long userId = AuthenticatedUser.current().getId();
+        Language questionLanguage;
+        try {
+            questionLanguage = request.param("questionLanguage").map(Language::parse).orElse(Language.UKRAINIAN);
+        } catch (BadRequestException e) {
+            return error(HttpStatus.BAD_REQUEST, e);
+        }
+
+        Mono<ServerResponse> response = vocabulary(userId)
+                .map(vocabulary -> quizService.buildQuestion(userId, vocabulary, questionLanguage))
+                .map(question -> ServerResponse.ok().body(question))
+                .onErrorResume(BadRequestException.class, e -> Mono.just(error(HttpStatus.BAD_REQUEST, e)));
+        return ServerResponse.async(response);
+    }
+
+    private Mono<VocabularySnapshot> vocabulary(Long userId) {
+        VocabularySnapshot cached = vocabularyCache.getIfPresent(userId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        long generation = vocabularyCache.generation();
+        return wordPairRepository.findByUserId(userId)
+                .map(WordPairRow::toWordText)
+                .collectList()
+                .map(words -> vocabularyCache.cacheIfUnchanged(userId, VocabularySnapshot.of(words), generation));
+    }
+
+    // Functional endpoints bypass GlobalExceptionHandler, so mirror its body here
+    private static ServerResponse error(HttpStatus status, RuntimeException e) {
+        return ServerResponse.status(status).body(Map.of(
+                "status", status.value(),
+                "message", e.getMessage()
+        ));
+    }
+
+    private static WordPairDTO toDTO(WordPairRow row) {
+        return WordPairDTO.builder()
+                .id(row.id())
+                .polishWord(row.polishWord())
+                .ukrainianWord(row.ukrainianWord())
+                .correctCount(row.correctCount())
+                .incorrectCount(row.incorrectCount())
+                .build();
+    }
+}
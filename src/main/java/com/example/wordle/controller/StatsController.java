@@ -0,0 +1,20 @@
+package com.example.wordle.controller;
+
+import com.example.wordle.dto.UserStatsDTO;
+import com.example.wordle.service.UserStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final UserStatsService userStatsService;
+
+    @GetMapping
+    public ResponseEntity<UserStatsDTO> getStats() {
+        return ResponseEntity.ok(userStatsService.getCurrentUserStats());
+    }
+}
@@ -1,15 +1,29 @@
 package com.example.wordle.controller;
 
 import com.example.wordle.dto.BulkWordRequest;
-import com.example.wordle.dto.BulkWordResponse;
+import com.example.wordle.dto.ExportFormat;
+import com.example.wordle.dto.WordChangeResponse;
+import com.example.wordle.dto.WordChangesDTO;
 import com.example.wordle.dto.WordPairDTO;
+import com.example.wordle.dto.WordSearchResultDTO;
+import com.example.wordle.dto.WordSelection;
+import com.example.wordle.dto.WordUpdateRequest;
+import com.example.wordle.security.AuthenticatedUser;
+import com.example.wordle.service.IdempotencyService;
+import com.example.wordle.service.WordExportService;
+import com.example.wordle.service.WordSearchService;
 import com.example.wordle.service.WordService;
+import com.example.wordle.service.WordSyncService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -18,21 +32,79 @@ import java.util.List;
 public class WordController {
 
     private final WordService wordService;
+    private final WordExportService wordExportService;
+    private final WordSearchService wordSearchService;
+    private final WordSyncService wordSyncService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
-    public ResponseEntity<WordPairDTO> createWordPair(@Valid @RequestBody WordPairDTO dto) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(wordService.createWordPair(dto));
+    public ResponseEntity<?> createWordPair(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody WordPairDTO dto) {
+        return idempotencyService.execute(idempotencyKey, "POST /api/words", dto,
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(wordService.createWordPair(dto)));
     }
 
     @PostMapping("/bulk")
-    public ResponseEntity<BulkWordResponse> createBulkWordPairs(
+    public ResponseEntity<?> createBulkWordPairs(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody BulkWordRequest request) {
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(wordService.createBulkWordPairs(request));
+        return idempotencyService.execute(idempotencyKey, "POST /api/words/bulk", request,
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(wordService.createBulkWordPairs(request)));
     }
 
     @GetMapping
     public ResponseEntity<List<WordPairDTO>> getAllWordPairs() {
         return ResponseEntity.ok(wordService.getAllWordPairs());
     }
-}
\ No newline at end of file
+
+    @GetMapping("/changes")
+    public ResponseEntity<WordChangesDTO> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(wordSyncService.getChanges(since, limit));
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<WordPairDTO> updateWordPair(
+            @PathVariable Long id,
+            @Valid @RequestBody WordUpdateRequest request) {
+        return ResponseEntity.ok(wordService.updateWordPair(id, request));
+    }
+
+    @PatchMapping
+    public ResponseEntity<WordChangeResponse> updateWordPairs(
+            @ModelAttribute WordSelection selection,
+            @Valid @RequestBody WordUpdateRequest request) {
+        return ResponseEntity.ok(wordService.updateWordPairs(selection, request));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<WordChangeResponse> deleteWordPair(@PathVariable Long id) {
+        return ResponseEntity.ok(wordService.deleteWordPair(id));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<WordChangeResponse> deleteWordPairs(@ModelAttribute WordSelection selection) {
+        return ResponseEntity.ok(wordService.deleteWordPairs(selection));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<WordSearchResultDTO>> searchWordPairs(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(wordSearchService.search(q, limit));
+    }
+
+    @GetMapping("/export")
+    public void exportWordPairs(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+        String filename = "words." + format.getExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : format.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+        wordExportService.export(AuthenticatedUser.current().getId(), format, gzip, response.getOutputStream());
+    }
+}
@@ -10,7 +10,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class AuthResponse {
+    // Access token, valid for expiresIn seconds
     private String token;
+    // Exchange at /auth/refresh for a new pair; each one works once
+    private String refreshToken;
+    private long expiresIn;
     private String username;
     private String email;
 }
@@ -13,5 +13,8 @@ import java.util.List;
 @AllArgsConstructor
 public class BulkWordResponse {
     private int totalProcessed;
+    private int created;
+    // Pairs the user already had, or that repeated an earlier pair of the same request
+    private int skipped;
     private List<WordPairDTO> createdWords;
 }
@@ -0,0 +1,19 @@
+package com.example.wordle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyAccuracyDTO {
+    private LocalDate date;
+    private int answers;
+    private int correct;
+    private double accuracy;
+}
@@ -0,0 +1,16 @@
+package com.example.wordle.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyGuessRequest {
+    @NotBlank(message = "Guess is required")
+    private String guess;
+}
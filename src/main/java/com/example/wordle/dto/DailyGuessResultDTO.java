@@ -0,0 +1,19 @@
+package com.example.wordle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyGuessResultDTO {
+    private int number;
+    private String guess;
+    private List<LetterFeedback> letters;
+    private boolean solved;
+}
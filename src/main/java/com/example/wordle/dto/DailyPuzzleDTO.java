@@ -0,0 +1,20 @@
+package com.example.wordle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// The day's puzzle without its answer
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyPuzzleDTO {
+    private int number;
+    private LocalDate date;
+    private int length;
+    private String hint; // Ukrainian translation of the Polish target word
+}
@@ -0,0 +1,18 @@
+package com.example.wordle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardDTO {
+    private LeaderboardPeriod period;
+    private List<LeaderboardEntryDTO> entries;
+    private LeaderboardEntryDTO you; // null until the user has answered correctly
+}
@@ -0,0 +1,6 @@
+package com.example.wordle.dto;
+
+public enum LeaderboardPeriod {
+    WEEKLY,
+    ALL_TIME
+}
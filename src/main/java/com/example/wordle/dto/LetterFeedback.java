@@ -0,0 +1,10 @@
+package com.example.wordle.dto;
+
+/**
+ * How one letter of a guess compares to the target word.
+ */
+public enum LetterFeedback {
+    CORRECT, // right letter in the right place
+    PRESENT, // in the word, elsewhere
+    ABSENT
+}
@@ -0,0 +1,26 @@
+package com.example.wordle.dto;
+
+import com.example.wordle.entity.Language;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultipleChoiceAnswerRequest {
+    @NotNull(message = "Question word id is required")
+    private Long questionWordId;
+
+    @NotNull(message = "Question language is required")
+    private Language questionLanguage;
+
+    @NotBlank(message = "Answer is required")
+    private String answer;
+
+    private Long responseTimeMs; // optional, time the user took to answer
+}
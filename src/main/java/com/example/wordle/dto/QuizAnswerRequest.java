@@ -0,0 +1,28 @@
+package com.example.wordle.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizAnswerRequest {
+    @NotBlank(message = "Quiz token is required")
+    private String token;
+
+    @NotNull(message = "Selected option is required")
+    @Min(value = 0, message = "Selected option must be between 0 and 3")
+    @Max(value = 3, message = "Selected option must be between 0 and 3")
+    private Integer selectedIndex;
+
+    private String answer; // optional, text of the selected option, kept in answer history
+
+    private Long responseTimeMs; // optional, time the user took to answer
+}
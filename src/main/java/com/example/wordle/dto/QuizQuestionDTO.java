@@ -1,5 +1,6 @@
 package com.example.wordle.dto;
 
+import com.example.wordle.entity.Language;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +16,7 @@ import java.util.List;
 public class QuizQuestionDTO {
     private Long questionWordId;
     private String questionWord;
-    private String questionLanguage; // "POLISH" or "UKRAINIAN"
+    private Language questionLanguage;
     private List<String> options;
+    private String token; // signed; send back to /api/quiz/answer
 }
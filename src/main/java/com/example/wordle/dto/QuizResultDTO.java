@@ -13,5 +13,6 @@ public class QuizResultDTO {
     private boolean correct;
     private String correctAnswer;
     private String providedAnswer;
+    private Integer correctIndex; // set when answering by option index
     private String message;
 }
@@ -1,6 +1,8 @@
 package com.example.wordle.dto;
 
+import com.example.wordle.entity.Language;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,9 +16,11 @@ public class SpellCheckRequest {
     @NotBlank(message = "Question word is required")
     private String questionWord;
 
-    @NotBlank(message = "Question language is required")
-    private String questionLanguage; // "POLISH" or "UKRAINIAN"
+    @NotNull(message = "Question language is required")
+    private Language questionLanguage;
 
     @NotBlank(message = "Answer is required")
     private String answer;
+
+    private Long responseTimeMs; // optional, time the user took to answer
 }
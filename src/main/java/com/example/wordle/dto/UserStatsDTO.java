@@ -0,0 +1,24 @@
+package com.example.wordle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStatsDTO {
+    private long totalWords;
+    private long totalAnswers;
+    private long correctAnswers;
+    private double accuracy;
+    private int currentStreak;
+    private int bestStreak;
+    private int dayStreak;
+    private List<DailyAccuracyDTO> daily;
+    private List<WordPairDTO> weakestWords;
+}
@@ -0,0 +1,27 @@
+package com.example.wordle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Changes to the caller's vocabulary since a cursor. When {@code reset} is
+ * set there was no usable cursor: {@code inserted} is the whole vocabulary
+ * and replaces the local copy. Pass {@code cursor} as {@code since} next
+ * time, right away while {@code hasMore} is set.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WordChangesDTO {
+    private String cursor;
+    private boolean reset;
+    private boolean hasMore;
+    private List<WordPairDTO> inserted;
+    private List<WordPairDTO> updated;
+    private List<Long> deleted;
+}
@@ -0,0 +1,16 @@
+package com.example.wordle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WordSearchResultDTO {
+    private Long id;
+    private String polishWord;
+    private String ukrainianWord;
+}
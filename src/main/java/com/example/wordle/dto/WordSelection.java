@@ -0,0 +1,27 @@
+package com.example.wordle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Query parameters of the bulk PATCH and DELETE on /api/words; all given criteria must match
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WordSelection {
+    private List<Long> ids;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom; // inclusive
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo; // exclusive
+
+    private boolean all; // required to select the whole vocabulary without criteria
+}
@@ -0,0 +1,26 @@
+package com.example.wordle.dto;
+
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Fields left out are not changed
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WordUpdateRequest {
+    @Pattern(regexp = ".*\\S.*", message = "Polish word must not be blank")
+    private String polishWord;
+
+    @Pattern(regexp = ".*\\S.*", message = "Ukrainian word must not be blank")
+    private String ukrainianWord;
+
+    private boolean resetCounts; // sets correctCount and incorrectCount to 0
+
+    public boolean changesWords() {
+        return polishWord != null || ukrainianWord != null;
+    }
+}
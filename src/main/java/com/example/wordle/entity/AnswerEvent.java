@@ -0,0 +1,45 @@
+package com.example.wordle.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only log of quiz answers. Rows are written in batches by
+ * {@link com.example.wordle.service.AnswerHistoryWriter}, never through JPA,
+ * so the ids are plain columns instead of associations.
+ */
+@Entity
+@Table(name = "answer_events", indexes = {
+        @Index(name = "idx_answer_events_user_time", columnList = "user_id, answered_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "word_pair_id", nullable = false)
+    private Long wordPairId;
+
+    @Column(nullable = false)
+    private boolean correct;
+
+    private String answer;
+
+    private Long latencyMs;
+
+    @Column(nullable = false)
+    private LocalDateTime answeredAt;
+}
@@ -0,0 +1,13 @@
+package com.example.wordle.entity;
+
+import java.time.LocalDate;
+
+/**
+ * Answers given on a single day, kept inside {@link UserStats}.
+ */
+public record DailyStat(LocalDate day, int answers, int correct) {
+
+    public DailyStat plus(boolean isCorrect) {
+        return new DailyStat(day, answers + 1, isCorrect ? correct + 1 : correct);
+    }
+}
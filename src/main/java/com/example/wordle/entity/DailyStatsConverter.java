@@ -0,0 +1,45 @@
+package com.example.wordle.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores the daily series as {@code day:answers:correct} entries separated by commas,
+ * so updating it is part of the single {@code user_stats} row update.
+ */
+@Converter
+public class DailyStatsConverter implements AttributeConverter<List<DailyStat>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(List<DailyStat> days) {
+        if (days == null || days.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (DailyStat day : days) {
+            if (!sb.isEmpty()) {
+                sb.append(',');
+            }
+            sb.append(day.day()).append(':').append(day.answers()).append(':').append(day.correct());
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public List<DailyStat> convertToEntityAttribute(String value) {
+        List<DailyStat> days = new ArrayList<>();
+        if (value == null || value.isEmpty()) {
+            return List.copyOf(days);
+        }
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            days.add(new DailyStat(LocalDate.parse(parts[0]),
+                    Integer.parseInt(parts[1]), Integer.parseInt(parts[2])));
+        }
+        return List.copyOf(days);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.wordle.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The first response to a request sent with an {@code Idempotency-Key}, shared
+ * by all instances when {@code idempotency.store=DATABASE}. A row is claimed
+ * with a plain insert before the request runs, so the unique key decides which
+ * instance executes it; {@code status} stays null until the response is stored.
+ * Written and read with SQL by {@link com.example.wordle.service.IdempotencyService},
+ * never through JPA.
+ */
+@Entity
+@Table(name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_keys_scope", columnNames = {"user_id", "scope"}),
+        indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // Endpoint and client key
+    @Column(nullable = false, length = 300)
+    private String scope;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    private Integer status;
+
+    @Column(length = 1048576)
+    private byte[] body;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,51 @@
+package com.example.wordle.entity;
+
+import com.example.wordle.exception.BadRequestException;
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/**
+ * A language a term can be written in. {@link #code()} is the ISO 639-1 code
+ * stored in {@code word_terms.language}; the API accepts either the code or
+ * the constant name, in any case.
+ */
+public enum Language {
+
+    POLISH("pl"),
+    UKRAINIAN("uk");
+
+    private final String code;
+
+    Language(String code) {
+        this.code = code;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    /**
+     * The language on the other side of a word pair.
+     */
+    public Language other() {
+        return this == POLISH ? UKRAINIAN : POLISH;
+    }
+
+    @JsonCreator
+    public static Language parse(String value) {
+        for (Language language : values()) {
+            if (language.name().equalsIgnoreCase(value) || language.code.equalsIgnoreCase(value)) {
+                return language;
+            }
+        }
+        throw new BadRequestException("Unsupported language: " + value);
+    }
+
+    public static Language fromCode(String code) {
+        for (Language language : values()) {
+            if (language.code.equals(code)) {
+                return language;
+            }
+        }
+        throw new IllegalArgumentException("Unknown language code: " + code);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.wordle.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a {@link Language} as its two-letter code rather than its name.
+ */
+@Converter
+public class LanguageCodeConverter implements AttributeConverter<Language, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Language language) {
+        return language == null ? null : language.code();
+    }
+
+    @Override
+    public Language convertToEntityAttribute(String code) {
+        return code == null ? null : Language.fromCode(code);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.wordle.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Checkpoint of the in-memory leaderboard. Written additively by
+ * {@link com.example.wordle.service.LeaderboardService} and read back at startup.
+ */
+@Entity
+@Table(name = "leaderboard_scores")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardScore {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    private long allTimeScore;
+
+    @Column(nullable = false)
+    private long weeklyScore;
+
+    @Column(nullable = false)
+    private LocalDate weekStart;
+}
@@ -0,0 +1,50 @@
+package com.example.wordle.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Log of {@code users.token_version} bumps, read incrementally by every
+ * instance's {@link com.example.wordle.security.TokenRevocationRegistry}.
+ * Rows are only needed while access tokens issued before them can still be
+ * valid; older ones are deleted by {@link com.example.wordle.service.TokenService}.
+ */
+@Entity
+@Table(name = "token_revocations", indexes = {
+        @Index(name = "idx_token_revocations_revoked_at", columnList = "revoked_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // Tokens with a lower version are revoked
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    /**
+     * UTC in microseconds, so that instances in different zones agree and a
+     * value reads back as written.
+     */
+    public static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS);
+    }
+}
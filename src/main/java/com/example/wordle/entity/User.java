@@ -7,11 +7,17 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
+/**
+ * An account. Its word pairs are not mapped here: the database deletes them
+ * with the user through {@code fk_word_pairs_user}, without loading them.
+ * A set {@code deletedAt} closes the account at once; its data is removed
+ * later by {@link com.example.wordle.service.AccountPurgeJob}.
+ */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_deleted_at", columnList = "deleted_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -34,9 +40,12 @@ public class User {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    private LocalDateTime deletedAt;
+
+    // Access tokens carry the version they were issued with; bumping it revokes them all
+    @Column(name = "token_version", nullable = false)
     @Builder.Default
-    private List<WordPair> wordPairs = new ArrayList<>();
+    private int tokenVersion = 0;
 
     @PrePersist
     protected void onCreate() {
@@ -0,0 +1,126 @@
+package com.example.wordle.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Learning statistics of one user, maintained incrementally on every answer and
+ * word write so that reading them never touches {@code word_pairs}.
+ * The daily series and weakest-words list are bounded and stored inline.
+ */
+@Entity
+@Table(name = "user_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStats {
+
+    public static final int TRACKED_DAYS = 30;
+    public static final int WEAKEST_WORDS = 10;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long totalWords;
+
+    @Column(nullable = false)
+    private long totalAnswers;
+
+    @Column(nullable = false)
+    private long correctAnswers;
+
+    @Column(nullable = false)
+    private int currentStreak;
+
+    @Column(nullable = false)
+    private int bestStreak;
+
+    @Column(nullable = false)
+    private int dayStreak;
+
+    private LocalDate lastActiveDate;
+
+    @Convert(converter = DailyStatsConverter.class)
+    @Column(length = 1024)
+    @Builder.Default
+    private List<DailyStat> dailyStats = List.of();
+
+    @Convert(converter = WeakWordsConverter.class)
+    @Column(length = 1024)
+    @Builder.Default
+    private List<WeakWord> weakWords = List.of();
+
+    public void recordAnswer(Long wordPairId, boolean correct,
+                             int wordCorrectCount, int wordIncorrectCount, LocalDate today) {
+        totalAnswers++;
+        if (correct) {
+            correctAnswers++;
+            currentStreak++;
+            bestStreak = Math.max(bestStreak, currentStreak);
+        } else {
+            currentStreak = 0;
+        }
+
+        if (lastActiveDate == null || lastActiveDate.isBefore(today.minusDays(1))) {
+            dayStreak = 1;
+        } else if (lastActiveDate.equals(today.minusDays(1))) {
+            dayStreak++;
+        }
+        lastActiveDate = today;
+
+        dailyStats = updateDailyStats(today, correct);
+        weakWords = updateWeakWords(new WeakWord(wordPairId, wordCorrectCount, wordIncorrectCount));
+    }
+
+    // Collections are replaced rather than mutated so dirty checking sees the change
+    private List<DailyStat> updateDailyStats(LocalDate today, boolean correct) {
+        LocalDate oldest = today.minusDays(TRACKED_DAYS - 1);
+        List<DailyStat> updated = new ArrayList<>(TRACKED_DAYS);
+        boolean found = false;
+        for (DailyStat day : dailyStats) {
+            if (day.day().isBefore(oldest)) {
+                continue;
+            }
+            if (day.day().equals(today)) {
+                updated.add(day.plus(correct));
+                found = true;
+            } else {
+                updated.add(day);
+            }
+        }
+        if (!found) {
+            updated.add(new DailyStat(today, 1, correct ? 1 : 0));
+        }
+        return List.copyOf(updated);
+    }
+
+    private List<WeakWord> updateWeakWords(WeakWord answered) {
+        List<WeakWord> updated = new ArrayList<>(WEAKEST_WORDS + 1);
+        for (WeakWord word : weakWords) {
+            if (!word.wordPairId().equals(answered.wordPairId())) {
+                updated.add(word);
+            }
+        }
+        if (answered.score() > 0) {
+            updated.add(answered);
+        }
+        updated.sort(Comparator.comparingInt(WeakWord::score)
+                .thenComparingInt(WeakWord::incorrectCount)
+                .reversed());
+        if (updated.size() > WEAKEST_WORDS) {
+            updated = updated.subList(0, WEAKEST_WORDS);
+        }
+        return List.copyOf(updated);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.wordle.entity;
+
+/**
+ * A word pair tracked in the bounded weakest-words list of {@link UserStats}.
+ */
+public record WeakWord(Long wordPairId, int correctCount, int incorrectCount) {
+
+    public int score() {
+        return incorrectCount - correctCount;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.wordle.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores the weakest words as {@code wordPairId:correct:incorrect} entries separated by commas.
+ */
+@Converter
+public class WeakWordsConverter implements AttributeConverter<List<WeakWord>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(List<WeakWord> words) {
+        if (words == null || words.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (WeakWord word : words) {
+            if (!sb.isEmpty()) {
+                sb.append(',');
+            }
+            sb.append(word.wordPairId()).append(':')
+                    .append(word.correctCount()).append(':')
+                    .append(word.incorrectCount());
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public List<WeakWord> convertToEntityAttribute(String value) {
+        List<WeakWord> words = new ArrayList<>();
+        if (value == null || value.isEmpty()) {
+            return List.copyOf(words);
+        }
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            words.add(new WeakWord(Long.parseLong(parts[0]),
+                    Integer.parseInt(parts[1]), Integer.parseInt(parts[2])));
+        }
+        return List.copyOf(words);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.wordle.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * One entry of a user's vocabulary change log, read by delta sync. Rows are
+ * appended next to each word write with one {@code INSERT ... SELECT} (see
+ * {@link com.example.wordle.repository.WordPairRepositoryCustom#logChanges}),
+ * never through JPA. There is no foreign key to the pair: the row of a deleted
+ * pair is its tombstone.
+ */
+@Entity
+@Table(name = "word_changes", indexes = {
+        @Index(name = "idx_word_changes_feed", columnList = "user_id, changed_at, id"),
+        @Index(name = "idx_word_changes_changed_at", columnList = "changed_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WordChange {
+
+    // Stored as the ordinal: add new kinds at the end
+    public enum Kind {
+        INSERTED,
+        UPDATED,
+        DELETED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "word_pair_id", nullable = false)
+    private Long wordPairId;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(nullable = false)
+    private Kind kind;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    /**
+     * The time to stamp a change with: UTC, so that it never jumps back when
+     * the clocks change, and in microseconds, the precision both databases
+     * store, so that a value reads back as written.
+     */
+    public static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS);
+    }
+}
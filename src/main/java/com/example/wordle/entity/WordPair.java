@@ -5,17 +5,30 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
+/**
+ * A user's Polish-Ukrainian pair. The normalized forms in {@code polishKey} and
+ * {@code ukrainianKey} are unique per user, so re-importing a list cannot add
+ * the same pair twice.
+ */
 @Entity
-@Table(name = "word_pairs")
+@Table(name = "word_pairs", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_word_pairs_user_forms", columnNames = {"user_id", "polish_key", "ukrainian_key"})
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class WordPair {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -26,8 +39,15 @@ public class WordPair {
     @Column(nullable = false)
     private String ukrainianWord;
 
+    @Column(nullable = false)
+    private String polishKey;
+
+    @Column(nullable = false)
+    private String ukrainianKey;
+
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_word_pairs_user"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private User user;
 
     @Column(nullable = false)
@@ -44,5 +64,23 @@ public class WordPair {
         createdAt = LocalDateTime.now();
         if (correctCount == null) correctCount = 0;
         if (incorrectCount == null) incorrectCount = 0;
+        onUpdate();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        polishKey = normalize(polishWord);
+        ukrainianKey = normalize(ukrainianWord);
+    }
+
+    public String getWord(Language language) {
+        return language == Language.POLISH ? polishWord : ukrainianWord;
+    }
+
+    /**
+     * Form used for duplicate detection: trimmed, inner whitespace collapsed, lower case.
+     */
+    public static String normalize(String word) {
+        return WHITESPACE.matcher(word.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
     }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.example.wordle.entity;
+
+import com.example.wordle.repository.projection.WordText;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only R2DBC mapping of {@code word_pairs}, used by the reactive read path.
+ * The JPA mapping stays in {@link WordPair}.
+ */
+@Table("word_pairs")
+public record WordPairRow(
+        @Id Long id,
+        Long userId,
+        String polishWord,
+        String ukrainianWord,
+        LocalDateTime createdAt,
+        Integer correctCount,
+        Integer incorrectCount
+) {
+
+    public WordText toWordText() {
+        return new WordText(id, polishWord, ukrainianWord);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.wordle.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * One side of a word pair, keyed by language and normalized form, so finding
+ * a pair from a word in either language is a single index lookup. The rows
+ * copy their pair's words: they are inserted with it by
+ * {@link com.example.wordle.repository.WordPairRepositoryCustom#insertTerms},
+ * rewritten in the same transaction by
+ * {@link com.example.wordle.repository.WordPairRepositoryCustom#updateWords}
+ * and deleted with it through the foreign key. Any other write to a pair's
+ * words has to go through those methods too, or lookups find the old word.
+ */
+@Entity
+@Table(name = "word_terms", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_word_terms_pair_language", columnNames = {"word_pair_id", "language"})
+}, indexes = {
+        @Index(name = "idx_word_terms_lookup", columnList = "user_id, language, term_key")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WordTerm {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "word_pair_id", nullable = false)
+    private Long wordPairId;
+
+    // Mapped only for the foreign key, so deleting pairs in bulk removes their terms too
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "word_pair_id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(name = "fk_word_terms_pair"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private WordPair wordPair;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Convert(converter = LanguageCodeConverter.class)
+    @Column(nullable = false, length = 2)
+    private Language language;
+
+    @Column(nullable = false)
+    private String text;
+
+    @Column(nullable = false)
+    private String termKey;
+}
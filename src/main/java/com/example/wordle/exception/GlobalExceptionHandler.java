@@ -2,11 +2,13 @@ package com.example.wordle.exception;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -24,6 +26,11 @@ public class GlobalExceptionHandler {
         return errorResponse(HttpStatus.CONFLICT, ex.getMessage());
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    ResponseEntity<Map<String, Object>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        return errorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+    }
+
     @ExceptionHandler(BadRequestException.class)
     ResponseEntity<Map<String, Object>> handleBadRequestException(BadRequestException ex) {
         return errorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
@@ -37,6 +44,21 @@ public class GlobalExceptionHandler {
         return errorResponse(HttpStatus.BAD_REQUEST, message);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    ResponseEntity<Map<String, Object>> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        return errorResponse(HttpStatus.BAD_REQUEST, badRequestMessage(ex, "Invalid value for " + ex.getName()));
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    ResponseEntity<Map<String, Object>> handleUnreadableMessage(HttpMessageNotReadableException ex) {
+        return errorResponse(HttpStatus.BAD_REQUEST, badRequestMessage(ex, "Malformed request body"));
+    }
+
+    @ExceptionHandler(UnauthorizedException.class)
+    ResponseEntity<Map<String, Object>> handleUnauthorizedException(UnauthorizedException ex) {
+        return errorResponse(HttpStatus.UNAUTHORIZED, ex.getMessage());
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     ResponseEntity<Map<String, Object>> handleBadCredentials(BadCredentialsException ex) {
         return errorResponse(HttpStatus.UNAUTHORIZED, "Invalid username or password");
@@ -52,6 +74,16 @@ public class GlobalExceptionHandler {
         return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
     }
 
+    // Values parsed during binding, such as languages, explain themselves with a BadRequestException
+    private static String badRequestMessage(Throwable ex, String fallback) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BadRequestException badRequest) {
+                return badRequest.getMessage();
+            }
+        }
+        return fallback;
+    }
+
     private ResponseEntity<Map<String, Object>> errorResponse(HttpStatus status, String message) {
         return ResponseEntity.status(status).body(Map.of(
                 "status", status.value(),
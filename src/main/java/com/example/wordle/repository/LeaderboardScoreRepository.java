@@ -0,0 +1,16 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.entity.LeaderboardScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LeaderboardScoreRepository extends JpaRepository<LeaderboardScore, Long> {
+
+    @Modifying
+    @Query("DELETE FROM LeaderboardScore s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
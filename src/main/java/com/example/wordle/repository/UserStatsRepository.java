@@ -0,0 +1,24 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.entity.UserStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, Long>, UserStatsRepositoryCustom {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserStats s WHERE s.userId = :userId")
+    Optional<UserStats> findForUpdate(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.totalWords = s.totalWords + :delta WHERE s.userId = :userId")
+    int addWords(@Param("userId") Long userId, @Param("delta") long delta);
+}
@@ -0,0 +1,13 @@
+package com.example.wordle.repository;
+
+public interface UserStatsRepositoryCustom {
+
+    /**
+     * Creates the user's stats row unless it exists, with the word total counted
+     * from {@code word_pairs}, in one statement. Safe to race: the losing
+     * statement inserts nothing instead of failing.
+     *
+     * @return 1 if the row was created, 0 if it already existed
+     */
+    int insertIfAbsent(Long userId);
+}
@@ -0,0 +1,44 @@
+package com.example.wordle.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+
+/**
+ * PostgreSQL resolves a concurrent insert with {@code ON CONFLICT DO NOTHING},
+ * waiting for the other transaction instead of failing on the primary key; H2,
+ * used by the tests, filters with {@code NOT EXISTS} instead.
+ */
+class UserStatsRepositoryCustomImpl implements UserStatsRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO user_stats "
+            + "(user_id, total_words, total_answers, correct_answers, current_streak, best_streak, day_streak) "
+            + "SELECT CAST(? AS BIGINT), w.total, 0, 0, 0, 0, 0 "
+            + "FROM (SELECT count(*) AS total FROM word_pairs WHERE user_id = ?) w";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    UserStatsRepositoryCustomImpl(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public int insertIfAbsent(Long userId) {
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+            String sql = postgres
+                    ? INSERT_SQL + " ON CONFLICT (user_id) DO NOTHING"
+                    : INSERT_SQL + " WHERE NOT EXISTS (SELECT 1 FROM user_stats WHERE user_id = ?)";
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, userId);
+                statement.setLong(2, userId);
+                if (!postgres) {
+                    statement.setLong(3, userId);
+                }
+                return statement.executeUpdate();
+            }
+        });
+    }
+}
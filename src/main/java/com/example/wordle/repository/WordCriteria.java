@@ -0,0 +1,24 @@
+package com.example.wordle.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Selects word pairs of one user for a set-based update or delete. Null
+ * fields do not restrict the selection; all set fields must match.
+ *
+ * @param ids          pair ids, matched with a single array parameter however many there are
+ * @param createdFrom  inclusive lower bound of {@code created_at}
+ * @param createdTo    exclusive upper bound of {@code created_at}
+ */
+public record WordCriteria(Collection<Long> ids, LocalDateTime createdFrom, LocalDateTime createdTo) {
+
+    public static WordCriteria byId(Long id) {
+        return new WordCriteria(List.of(id), null, null);
+    }
+
+    public boolean isUnrestricted() {
+        return ids == null && createdFrom == null && createdTo == null;
+    }
+}
@@ -1,19 +1,39 @@
 package com.example.wordle.repository;
 
 import com.example.wordle.entity.WordPair;
+import com.example.wordle.repository.projection.WordPairView;
+import com.example.wordle.repository.projection.WordText;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface WordPairRepository extends JpaRepository<WordPair, Long> {
+public interface WordPairRepository extends JpaRepository<WordPair, Long>, WordPairRepositoryCustom {
 
     List<WordPair> findByUserId(Long userId);
 
+    Optional<WordPair> findByIdAndUserId(Long id, Long userId);
+
+    @Query("SELECT new com.example.wordle.repository.projection.WordPairView("
+            + "w.id, w.polishWord, w.ukrainianWord, w.correctCount, w.incorrectCount) "
+            + "FROM WordPair w WHERE w.user.id = :userId ORDER BY w.id")
+    List<WordPairView> findViewsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.example.wordle.repository.projection.WordPairView("
+            + "w.id, w.polishWord, w.ukrainianWord, w.correctCount, w.incorrectCount) "
+            + "FROM WordPair w WHERE w.id IN :ids")
+    List<WordPairView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.example.wordle.repository.projection.WordText(w.id, w.polishWord, w.ukrainianWord) "
+            + "FROM WordPair w WHERE w.user.id = :userId")
+    List<WordText> findTextsByUserId(@Param("userId") Long userId);
+
     long countByUserId(Long userId);
 
     @Query(value = "SELECT * FROM word_pairs WHERE user_id = :userId ORDER BY RANDOM() LIMIT 1",
@@ -27,4 +47,9 @@ public interface WordPairRepository extends JpaRepository<WordPair, Long> {
             @Param("excludeId") Long excludeId,
             @Param("limit") int limit
     );
-}
\ No newline at end of file
+
+    @Modifying
+    @Query("UPDATE WordPair w SET w.correctCount = w.correctCount + :correct, "
+            + "w.incorrectCount = w.incorrectCount + :incorrect WHERE w.id = :id")
+    int addAnswerCounts(@Param("id") Long id, @Param("correct") int correct, @Param("incorrect") int incorrect);
+}
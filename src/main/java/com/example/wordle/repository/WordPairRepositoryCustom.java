@@ -0,0 +1,64 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.entity.WordChange;
+import com.example.wordle.entity.WordPair;
+import com.example.wordle.repository.projection.WordPairView;
+import com.example.wordle.repository.projection.WordText;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface WordPairRepositoryCustom {
+
+    /**
+     * Inserts the pairs the user does not have yet, comparing normalized forms,
+     * and skips the rest without reading them first. The terms of the inserted
+     * pairs are written as well.
+     *
+     * @param pairs unsaved pairs; only the words are used
+     * @return the inserted rows, ordered by id
+     */
+    List<WordPairView> insertIfAbsent(Long userId, List<WordPair> pairs);
+
+    /**
+     * Writes the Polish and Ukrainian terms of pairs that were saved through JPA,
+     * in one batch.
+     */
+    void insertTerms(Long userId, List<WordText> pairs);
+
+    /**
+     * Replaces the given words of one pair, and their terms; null keeps a word.
+     *
+     * @return 1, or 0 when the user has no such pair
+     */
+    int updateWords(Long userId, Long id, String polishWord, String ukrainianWord);
+
+    /**
+     * Sets the answer counters of the matching pairs to zero in one statement.
+     *
+     * @return the number of pairs reset
+     */
+    int resetCounts(Long userId, WordCriteria criteria);
+
+    /**
+     * Deletes the matching pairs in one statement; their terms go with them
+     * through the foreign key.
+     *
+     * @return the number of pairs deleted
+     */
+    int deleteMatching(Long userId, WordCriteria criteria);
+
+    /**
+     * Appends a {@code word_changes} row of the given kind for every matching
+     * pair, in one statement. Deletions have to be logged before the pairs go.
+     *
+     * @return the number of pairs logged
+     */
+    int logChanges(Long userId, WordCriteria criteria, WordChange.Kind kind);
+
+    /**
+     * Logs counter updates of pairs that may belong to different users, in one
+     * statement; ids of pairs deleted in the meantime are skipped.
+     */
+    void logCounterChanges(Collection<Long> ids);
+}
@@ -0,0 +1,246 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.entity.Language;
+import com.example.wordle.entity.WordChange;
+import com.example.wordle.entity.WordPair;
+import com.example.wordle.repository.projection.WordPairView;
+import com.example.wordle.repository.projection.WordText;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Multi-row insert that skips pairs the user already has. PostgreSQL relies on
+ * the unique key with {@code ON CONFLICT DO NOTHING}; H2, used by the tests,
+ * has no such clause and filters with {@code NOT EXISTS} instead. Both return
+ * the inserted rows from the same statement, so nothing is read beforehand.
+ * Their terms follow in one JDBC batch per chunk.
+ * <p>
+ * Updates and deletes are single statements scoped to the user, whatever the
+ * number of pairs they touch; ids are bound as one array parameter. Their
+ * change-log rows are written the same way, selected from {@code word_pairs}
+ * with the same criteria.
+ */
+class WordPairRepositoryCustomImpl implements WordPairRepositoryCustom {
+
+    // Keeps each statement well below the bind parameter limits of both databases
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String COLUMNS =
+            "user_id, polish_word, ukrainian_word, polish_key, ukrainian_key, correct_count, incorrect_count, created_at";
+
+    private static final String INSERT_TERM_SQL =
+            "INSERT INTO word_terms (word_pair_id, user_id, language, text, term_key) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_WORDS_SQL = "UPDATE word_pairs SET "
+            + "polish_word = COALESCE(?, polish_word), polish_key = COALESCE(?, polish_key), "
+            + "ukrainian_word = COALESCE(?, ukrainian_word), ukrainian_key = COALESCE(?, ukrainian_key) "
+            + "WHERE id = ? AND user_id = ?";
+
+    private static final String UPDATE_TERMS_SQL = "UPDATE word_terms SET "
+            + "text = CASE language WHEN '" + Language.POLISH.code() + "' THEN COALESCE(?, text) ELSE COALESCE(?, text) END, "
+            + "term_key = CASE language WHEN '" + Language.POLISH.code() + "' THEN COALESCE(?, term_key) ELSE COALESCE(?, term_key) END "
+            + "WHERE word_pair_id = ?";
+
+    // Casts, so PostgreSQL can type parameters in a select list
+    private static final String LOG_CHANGES_SQL = "INSERT INTO word_changes (user_id, word_pair_id, kind, changed_at) "
+            + "SELECT user_id, id, CAST(? AS INTEGER), CAST(? AS TIMESTAMP) FROM word_pairs";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    WordPairRepositoryCustomImpl(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public List<WordPairView> insertIfAbsent(Long userId, List<WordPair> pairs) {
+        if (pairs.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.execute((ConnectionCallback<List<WordPairView>>) connection -> {
+            boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+            List<WordPairView> inserted = new ArrayList<>();
+            for (int from = 0; from < pairs.size(); from += CHUNK_SIZE) {
+                List<WordPair> chunk = pairs.subList(from, Math.min(from + CHUNK_SIZE, pairs.size()));
+                List<WordPairView> chunkInserted = insertChunk(connection, postgres, userId, chunk);
+                insertTerms(connection, userId, chunkInserted.stream()
+                        .map(view -> new WordText(view.id(), view.polishWord(), view.ukrainianWord()))
+                        .toList());
+                inserted.addAll(chunkInserted);
+            }
+            inserted.sort(Comparator.comparing(WordPairView::id));
+            return inserted;
+        });
+    }
+
+    @Override
+    public void insertTerms(Long userId, List<WordText> pairs) {
+        if (pairs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            insertTerms(connection, userId, pairs);
+            return null;
+        });
+    }
+
+    @Override
+    public int updateWords(Long userId, Long id, String polishWord, String ukrainianWord) {
+        String polishKey = polishWord == null ? null : WordPair.normalize(polishWord);
+        String ukrainianKey = ukrainianWord == null ? null : WordPair.normalize(ukrainianWord);
+        int updated = jdbcTemplate.update(UPDATE_WORDS_SQL,
+                varchar(polishWord), varchar(polishKey), varchar(ukrainianWord), varchar(ukrainianKey), id, userId);
+        if (updated > 0) {
+            jdbcTemplate.update(UPDATE_TERMS_SQL,
+                    varchar(polishWord), varchar(ukrainianWord), varchar(polishKey), varchar(ukrainianKey), id);
+        }
+        return updated;
+    }
+
+    @Override
+    public int resetCounts(Long userId, WordCriteria criteria) {
+        return updateMatching("UPDATE word_pairs SET correct_count = 0, incorrect_count = 0", userId, criteria);
+    }
+
+    @Override
+    public int deleteMatching(Long userId, WordCriteria criteria) {
+        return updateMatching("DELETE FROM word_pairs", userId, criteria);
+    }
+
+    @Override
+    public int logChanges(Long userId, WordCriteria criteria, WordChange.Kind kind) {
+        return updateMatching(LOG_CHANGES_SQL, userId, criteria, kind.ordinal(), changedAt());
+    }
+
+    @Override
+    public void logCounterChanges(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(LOG_CHANGES_SQL + " WHERE id = ANY (?)")) {
+                statement.setInt(1, WordChange.Kind.UPDATED.ordinal());
+                statement.setTimestamp(2, changedAt());
+                statement.setArray(3, connection.createArrayOf("BIGINT", ids.toArray()));
+                return statement.executeUpdate();
+            }
+        });
+    }
+
+    private static Timestamp changedAt() {
+        return Timestamp.valueOf(WordChange.now());
+    }
+
+    private int updateMatching(String statementPrefix, Long userId, WordCriteria criteria,
+                               Object... prefixParameters) {
+        StringBuilder sql = new StringBuilder(statementPrefix).append(" WHERE user_id = ?");
+        if (criteria.ids() != null) {
+            sql.append(" AND id = ANY (?)");
+        }
+        if (criteria.createdFrom() != null) {
+            sql.append(" AND created_at >= ?");
+        }
+        if (criteria.createdTo() != null) {
+            sql.append(" AND created_at < ?");
+        }
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+                int index = 1;
+                for (Object parameter : prefixParameters) {
+                    statement.setObject(index++, parameter);
+                }
+                statement.setLong(index++, userId);
+                if (criteria.ids() != null) {
+                    statement.setArray(index++, connection.createArrayOf("BIGINT", criteria.ids().toArray()));
+                }
+                if (criteria.createdFrom() != null) {
+                    statement.setTimestamp(index++, Timestamp.valueOf(criteria.createdFrom()));
+                }
+                if (criteria.createdTo() != null) {
+                    statement.setTimestamp(index, Timestamp.valueOf(criteria.createdTo()));
+                }
+                return statement.executeUpdate();
+            }
+        });
+    }
+
+    // Typed nulls, so COALESCE can infer the parameter type on PostgreSQL
+    private static SqlParameterValue varchar(String value) {
+        return new SqlParameterValue(Types.VARCHAR, value);
+    }
+
+    private static void insertTerms(Connection connection, Long userId, List<WordText> pairs) throws SQLException {
+        if (pairs.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_TERM_SQL)) {
+            for (WordText pair : pairs) {
+                for (Language language : Language.values()) {
+                    String word = pair.word(language);
+                    statement.setLong(1, pair.id());
+                    statement.setLong(2, userId);
+                    statement.setString(3, language.code());
+                    statement.setString(4, word);
+                    statement.setString(5, WordPair.normalize(word));
+                    statement.addBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static List<WordPairView> insertChunk(
+            Connection connection, boolean postgres, Long userId, List<WordPair> chunk) throws SQLException {
+        String sql = postgres ? postgresSql(chunk.size()) : h2Sql(chunk.size());
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            for (WordPair pair : chunk) {
+                statement.setLong(index++, userId);
+                statement.setString(index++, pair.getPolishWord());
+                statement.setString(index++, pair.getUkrainianWord());
+                statement.setString(index++, WordPair.normalize(pair.getPolishWord()));
+                statement.setString(index++, WordPair.normalize(pair.getUkrainianWord()));
+            }
+            List<WordPairView> inserted = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    inserted.add(new WordPairView(resultSet.getLong(1), resultSet.getString(2),
+                            resultSet.getString(3), 0, 0));
+                }
+            }
+            return inserted;
+        }
+    }
+
+    private static String postgresSql(int rows) {
+        return "INSERT INTO word_pairs (" + COLUMNS + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, "(?, ?, ?, ?, ?, 0, 0, LOCALTIMESTAMP)"))
+                + " ON CONFLICT (user_id, polish_key, ukrainian_key) DO NOTHING"
+                + " RETURNING id, polish_word, ukrainian_word";
+    }
+
+    private static String h2Sql(int rows) {
+        return "SELECT id, polish_word, ukrainian_word FROM FINAL TABLE ("
+                + "INSERT INTO word_pairs (" + COLUMNS + ") "
+                + "SELECT v.user_id, v.polish_word, v.ukrainian_word, v.polish_key, v.ukrainian_key, 0, 0, LOCALTIMESTAMP "
+                + "FROM (VALUES "
+                + String.join(", ", Collections.nCopies(rows,
+                "(CAST(? AS BIGINT), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR))"))
+                + ") AS v(user_id, polish_word, ukrainian_word, polish_key, ukrainian_key) "
+                + "WHERE NOT EXISTS (SELECT 1 FROM word_pairs w WHERE w.user_id = v.user_id "
+                + "AND w.polish_key = v.polish_key AND w.ukrainian_key = v.ukrainian_key))";
+    }
+}
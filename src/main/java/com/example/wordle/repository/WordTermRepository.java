@@ -0,0 +1,25 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.entity.Language;
+import com.example.wordle.entity.WordPair;
+import com.example.wordle.entity.WordTerm;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WordTermRepository extends JpaRepository<WordTerm, Long> {
+
+    /**
+     * The user's pairs with a term in {@code language} whose normalized form is
+     * {@code termKey}, oldest first; one probe of {@code idx_word_terms_lookup}.
+     */
+    @Query("SELECT w FROM WordTerm t JOIN WordPair w ON w.id = t.wordPairId "
+            + "WHERE t.userId = :userId AND t.language = :language AND t.termKey = :termKey ORDER BY w.id")
+    List<WordPair> findPairsByTerm(@Param("userId") Long userId,
+                                   @Param("language") Language language,
+                                   @Param("termKey") String termKey);
+}
@@ -0,0 +1,13 @@
+package com.example.wordle.repository.projection;
+
+/**
+ * Read-only word pair with counters, selected straight into a record.
+ */
+public record WordPairView(
+        Long id,
+        String polishWord,
+        String ukrainianWord,
+        Integer correctCount,
+        Integer incorrectCount
+) {
+}
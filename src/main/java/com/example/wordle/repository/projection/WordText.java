@@ -0,0 +1,13 @@
+package com.example.wordle.repository.projection;
+
+import com.example.wordle.entity.Language;
+
+/**
+ * Just the texts of a word pair; what quiz generation works with.
+ */
+public record WordText(Long id, String polishWord, String ukrainianWord) {
+
+    public String word(Language language) {
+        return language == Language.POLISH ? polishWord : ukrainianWord;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.wordle.repository.reactive;
+
+import com.example.wordle.entity.WordPairRow;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveWordPairRepository extends ReactiveCrudRepository<WordPairRow, Long> {
+
+    Flux<WordPairRow> findByUserId(Long userId);
+}
@@ -7,6 +7,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 
@@ -15,13 +16,21 @@ import java.util.ArrayList;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        // A lagging replica may not have a fresh signup yet; read-write transactions use the primary
         User user = userRepository.findByUsername(username)
+                .or(() -> transactionTemplate.execute(status -> userRepository.findByUsername(username)))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        // Used at login only; requests are authenticated from the access token alone
+        if (user.getDeletedAt() != null) {
+            throw new UsernameNotFoundException("Account deleted: " + username);
+        }
 
-        return new org.springframework.security.core.userdetails.User(
+        return new AuthenticatedUser(
+                user.getId(),
                 user.getUsername(),
                 user.getPassword(),
                 new ArrayList<>()
@@ -3,7 +3,6 @@ package com.example.wordle.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -13,9 +12,23 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
+/**
+ * Issues and verifies access tokens. Besides the username they carry the user
+ * id and the user's token version, so a request is authenticated without
+ * loading the user; revocation is checked against {@link TokenRevocationRegistry}.
+ */
 @Component
 public class JwtUtils {
 
+    /**
+     * The claims of a verified access token.
+     */
+    public record AccessToken(long userId, String username, int version) {
+    }
+
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String VERSION_CLAIM = "ver";
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -47,13 +60,31 @@ public class JwtUtils {
                 .getPayload();
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Verifies the signature and expiry. Tokens issued before user ids and
+     * versions were embedded are rejected, so their holders have to log in again.
+     *
+     * @throws JwtException if the token is not a valid access token
+     */
+    public AccessToken parseAccessToken(String token) {
+        Claims claims = extractAllClaims(token);
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        Integer version = claims.get(VERSION_CLAIM, Integer.class);
+        if (userId == null || version == null) {
+            throw new MalformedJwtException("Not an access token");
+        }
+        return new AccessToken(userId, claims.getSubject(), version);
     }
 
-    public String generateToken(UserDetails userDetails) {
+    public String generateAccessToken(Long userId, String username, int tokenVersion) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+        claims.put(USER_ID_CLAIM, userId);
+        claims.put(VERSION_CLAIM, tokenVersion);
+        return createToken(claims, username);
+    }
+
+    public long getExpirationSeconds() {
+        return expiration / 1000;
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
@@ -68,9 +99,4 @@ public class JwtUtils {
                 .signWith(getSigningKey())
                 .compact();
     }
-
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-    }
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.example.wordle.security;
+
+import com.example.wordle.exception.BadRequestException;
+import com.example.wordle.exception.ConflictException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Issues and verifies the tokens that travel with multiple-choice questions.
+ * A token is a fixed-size binary payload (owner, word pair, direction, index of
+ * the correct option, expiry) followed by a truncated HMAC-SHA256, encoded as
+ * base64url. The HMAC key is derived from {@code quiz.token.secret} with
+ * HKDF-SHA256 under its own label, so it differs from the JWT signing key even
+ * when both are configured from the same secret.
+ * <p>
+ * Redeemed tokens are remembered in memory until they expire, so a question is
+ * graded once per instance: behind a load balancer without sticky sessions the
+ * same token can be redeemed once on each instance. Sharing the set would put a
+ * database write back on every answer, which these tokens exist to avoid.
+ */
+@Component
+public class QuizTokenSigner {
+
+    public record QuizToken(long userId, long wordPairId, boolean answerInPolish,
+                            int correctIndex, long expiresAt) {
+    }
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+    private static final int PAYLOAD_LENGTH = 1 + Long.BYTES + Long.BYTES + 1 + 1 + Long.BYTES;
+    private static final int SIGNATURE_LENGTH = 16;
+    private static final byte[] KEY_LABEL = "wordle quiz-token v1".getBytes(StandardCharsets.US_ASCII);
+
+    private final SecretKeySpec key;
+    private final long ttlSeconds;
+    private final ThreadLocal<Mac> macs;
+    private final Map<String, Long> redeemed = new ConcurrentHashMap<>();
+
+    public QuizTokenSigner(@Value("${quiz.token.secret}") String secret,
+                           @Value("${quiz.token.ttl-seconds:600}") long ttlSeconds) {
+        byte[] derived = hkdf(new byte[32], secret.getBytes(StandardCharsets.UTF_8), KEY_LABEL);
+        this.key = new SecretKeySpec(derived, ALGORITHM);
+        this.ttlSeconds = ttlSeconds;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String issue(long userId, long wordPairId, boolean answerInPolish, int correctIndex) {
+        ByteBuffer token = ByteBuffer.allocate(PAYLOAD_LENGTH + SIGNATURE_LENGTH)
+                .put(VERSION)
+                .putLong(userId)
+                .putLong(wordPairId)
+                .put((byte) (answerInPolish ? 1 : 0))
+                .put((byte) correctIndex)
+                .putLong(nowSeconds() + ttlSeconds);
+        token.put(sign(token.array()), 0, SIGNATURE_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.array());
+    }
+
+    /**
+     * Verifies the token for the given user and marks it as used.
+     */
+    public QuizToken redeem(String token, long userId) {
+        QuizToken question = verify(token, userId);
+        if (redeemed.putIfAbsent(token, question.expiresAt()) != null) {
+            throw new ConflictException("Question already answered");
+        }
+        return question;
+    }
+
+    QuizToken verify(String token, long userId) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        if (bytes.length != PAYLOAD_LENGTH + SIGNATURE_LENGTH || bytes[0] != VERSION) {
+            throw invalid();
+        }
+        byte[] expected = Arrays.copyOf(sign(bytes), SIGNATURE_LENGTH);
+        byte[] actual = Arrays.copyOfRange(bytes, PAYLOAD_LENGTH, bytes.length);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw invalid();
+        }
+
+        ByteBuffer payload = ByteBuffer.wrap(bytes, 1, PAYLOAD_LENGTH - 1);
+        QuizToken question = new QuizToken(payload.getLong(), payload.getLong(),
+                payload.get() == 1, payload.get(), payload.getLong());
+        if (question.userId() != userId || question.expiresAt() < nowSeconds()) {
+            throw invalid();
+        }
+        return question;
+    }
+
+    @Scheduled(fixedDelayString = "${quiz.token.prune-interval-ms:60000}")
+    public void pruneRedeemed() {
+        long now = nowSeconds();
+        redeemed.values().removeIf(expiresAt -> expiresAt < now);
+    }
+
+    private byte[] sign(byte[] token) {
+        Mac mac = macs.get();
+        mac.update(token, 0, PAYLOAD_LENGTH);
+        return mac.doFinal();
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    /**
+     * HKDF-SHA256 (RFC 5869) with a single output block of 32 bytes.
+     */
+    static byte[] hkdf(byte[] salt, byte[] inputKey, byte[] info) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(salt, ALGORITHM));
+            byte[] pseudoRandomKey = mac.doFinal(inputKey);
+            mac.init(new SecretKeySpec(pseudoRandomKey, ALGORITHM));
+            mac.update(info);
+            mac.update((byte) 1);
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private static BadRequestException invalid() {
+        return new BadRequestException("Invalid or expired quiz token");
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.wordle.security;
+
+import com.example.wordle.entity.TokenRevocation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked access tokens, checked by {@link JwtAuthenticationFilter} without a
+ * database call. Revoking a user's tokens bumps {@code users.token_version}
+ * and logs the new version in {@code token_revocations}; tokens carrying a
+ * lower version are revoked. Each instance keeps the latest version of every
+ * user revoked within the last access-token lifetime, and reads new log rows
+ * every {@code sync-interval-ms}. Each read goes back {@code settle-ms} before
+ * the previous one, so a revocation that committed late or was stamped by a
+ * clock running behind is still picked up. Revocations made on this instance
+ * apply as soon as they commit.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    private record Revocation(int version, LocalDateTime revokedAt) {
+    }
+
+    private static final String SYNC_SQL =
+            "SELECT user_id, token_version, revoked_at FROM token_revocations WHERE revoked_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration accessTokenTtl;
+    private final Duration settle;
+    private final Map<Long, Revocation> revocations = new ConcurrentHashMap<>();
+    // Log rows stamped before this have been read; null until the first sync
+    private volatile LocalDateTime syncedUntil;
+
+    public TokenRevocationRegistry(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.expiration}") long accessTokenTtlMs,
+            @Value("${jwt.revocation.settle-ms:10000}") long settleMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.accessTokenTtl = Duration.ofMillis(accessTokenTtlMs);
+        this.settle = Duration.ofMillis(settleMs);
+        meterRegistry.gaugeMapSize("auth.revoked_users", Tags.empty(), revocations);
+    }
+
+    public boolean isRevoked(long userId, int tokenVersion) {
+        Revocation revocation = revocations.get(userId);
+        return revocation != null && tokenVersion < revocation.version();
+    }
+
+    /**
+     * Applies a revocation logged by the current transaction once it commits;
+     * the other instances pick it up at their next sync.
+     */
+    public void revokeAfterCommit(long userId, int version, LocalDateTime revokedAt) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, version, revokedAt);
+                }
+            });
+        } else {
+            apply(userId, version, revokedAt);
+        }
+    }
+
+    // Also runs at startup; until it succeeds once, revocations from before then are unknown here
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public void sync() {
+        try {
+            syncNow();
+        } catch (RuntimeException e) {
+            log.warn("Token revocation sync failed, will retry", e);
+        }
+    }
+
+    /**
+     * Reads the revocations logged since the previous sync and forgets those
+     * whose tokens have all expired.
+     */
+    public void syncNow() {
+        LocalDateTime now = TokenRevocation.now();
+        LocalDateTime from = syncedUntil != null ? syncedUntil : now.minus(accessTokenTtl);
+        jdbcTemplate.query(SYNC_SQL,
+                rs -> {
+                    apply(rs.getLong(1), rs.getInt(2), rs.getTimestamp(3).toLocalDateTime());
+                },
+                Timestamp.valueOf(from.minus(settle)));
+        syncedUntil = now;
+
+        LocalDateTime expired = now.minus(accessTokenTtl).minus(settle);
+        revocations.values().removeIf(revocation -> revocation.revokedAt().isBefore(expired));
+    }
+
+    private void apply(long userId, int version, LocalDateTime revokedAt) {
+        revocations.merge(userId, new Revocation(version, revokedAt),
+                (current, next) -> next.version() > current.version() ? next : current);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.wordle.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Removes the data of closed accounts in the background, one bounded chunk
+ * per run, each in its own short transaction. The interval between runs is
+ * the throttle, and a run never holds the shared scheduler thread for longer
+ * than one chunk. No progress is kept besides the data itself: after a crash
+ * the next run carries on with whatever rows are left.
+ */
+@Slf4j
+@Component
+public class AccountPurgeJob {
+
+    private enum Outcome {
+        CHUNK,
+        ACCOUNT,
+        NOTHING
+    }
+
+    // Children first; word_terms would also go with word_pairs, but not in bounded chunks
+    private static final List<String> CHUNKED_TABLES =
+            List.of("idempotency_keys", "answer_events", "word_changes", "word_terms", "word_pairs");
+
+    private static final String PENDING_SQL = "SELECT id FROM users WHERE deleted_at IS NOT NULL ORDER BY deleted_at, id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final AtomicLong pendingAccounts = new AtomicLong();
+    private final Map<String, Counter> rowCounters = new LinkedHashMap<>();
+    private final Counter accountCounter;
+    private final Timer chunkTimer;
+
+    public AccountPurgeJob(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${account-purge.chunk-size:5000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+
+        meterRegistry.gauge("account_purge.pending_accounts", pendingAccounts);
+        for (String table : CHUNKED_TABLES) {
+            rowCounters.put(table, Counter.builder("account_purge.rows")
+                    .tag("table", table)
+                    .register(meterRegistry));
+        }
+        this.accountCounter = Counter.builder("account_purge.accounts").register(meterRegistry);
+        this.chunkTimer = Timer.builder("account_purge.chunk").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${account-purge.interval-ms:1000}")
+    public void purge() {
+        try {
+            purgeNextChunk();
+        } catch (RuntimeException e) {
+            log.warn("Account purge chunk failed, will retry", e);
+        }
+    }
+
+    /**
+     * Deletes up to {@code chunk-size} rows of the account closed first, or the
+     * account itself once nothing else of it is left.
+     *
+     * @return whether anything was deleted
+     */
+    public boolean purgeNextChunk() {
+        List<Long> pending = jdbcTemplate.queryForList(PENDING_SQL, Long.class);
+        pendingAccounts.set(pending.size());
+        if (pending.isEmpty()) {
+            return false;
+        }
+        Long userId = pending.get(0);
+
+        Outcome outcome = chunkTimer.record(() -> transactionTemplate.execute(status -> {
+            for (String table : CHUNKED_TABLES) {
+                int rows = jdbcTemplate.update("DELETE FROM " + table + " WHERE id IN ("
+                        + "SELECT id FROM " + table + " WHERE user_id = ? LIMIT ?)", userId, chunkSize);
+                if (rows > 0) {
+                    rowCounters.get(table).increment(rows);
+                    return Outcome.CHUNK;
+                }
+            }
+            jdbcTemplate.update("DELETE FROM user_stats WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM leaderboard_scores WHERE user_id = ?", userId);
+            // Another instance may have finished the account in the meantime
+            return jdbcTemplate.update("DELETE FROM users WHERE id = ? AND deleted_at IS NOT NULL", userId) > 0
+                    ? Outcome.ACCOUNT
+                    : Outcome.NOTHING;
+        }));
+
+        if (outcome == Outcome.ACCOUNT) {
+            accountCounter.increment();
+            pendingAccounts.decrementAndGet();
+            log.info("Purged account {}", userId);
+        }
+        return outcome != Outcome.NOTHING;
+    }
+}
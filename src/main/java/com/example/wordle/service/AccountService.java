@@ -0,0 +1,43 @@
+package com.example.wordle.service;
+
+import com.example.wordle.exception.NotFoundException;
+import com.example.wordle.repository.LeaderboardScoreRepository;
+import com.example.wordle.repository.UserRepository;
+import com.example.wordle.security.AuthenticatedUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class AccountService {
+
+    private final UserRepository userRepository;
+    private final LeaderboardScoreRepository leaderboardScoreRepository;
+    private final LeaderboardService leaderboardService;
+    private final VocabularyCache vocabularyCache;
+    private final TokenService tokenService;
+
+    /**
+     * Closes the caller's account: its tokens are revoked and it leaves the
+     * leaderboard. Everything else is removed in the background
+     * by {@link AccountPurgeJob}, so this touches two rows whatever the vocabulary size.
+     */
+    @Transactional
+    public void deleteCurrentAccount() {
+        Long userId = AuthenticatedUser.current().getId();
+        if (userRepository.markDeleted(userId, LocalDateTime.now()) == 0) {
+            throw new NotFoundException("User not found");
+        }
+        leaderboardScoreRepository.deleteByUserId(userId);
+        leaderboardService.removeUserAfterCommit(userId);
+        vocabularyCache.evictAfterCommit(userId);
+        tokenService.revokeAll(userId);
+    }
+
+    public void revokeAllSessions() {
+        tokenService.revokeAll(AuthenticatedUser.current().getId());
+    }
+}
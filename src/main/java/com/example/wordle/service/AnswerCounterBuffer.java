@@ -0,0 +1,172 @@
+package com.example.wordle.service;
+
+import com.example.wordle.repository.WordPairRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Queues graded answers and applies them in the background: per-word counters
+ * are added to {@code word_pairs} in one batch per flush and logged for delta
+ * sync with one more statement, both in one transaction, then each answer is
+ * applied to the user's stats. When the queue is full the answer is applied on
+ * the caller's thread instead of being lost.
+ * <p>
+ * While {@link QuizReadCircuitBreaker} is open the queue is not flushed, and a
+ * batch whose transaction rolls back goes back to the queue, so answers
+ * graded during a database outage are replayed once it is over. Only answers
+ * that no longer fit in the queue are dropped then.
+ */
+@Slf4j
+@Component
+public class AnswerCounterBuffer {
+
+    record Answer(long userId, long wordPairId, boolean correct) {
+    }
+
+    private static final String UPDATE_SQL =
+            "UPDATE word_pairs SET correct_count = correct_count + ?, incorrect_count = incorrect_count + ? "
+                    + "WHERE id = ?";
+    private static final int SELECT_CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WordPairRepository wordPairRepository;
+    private final UserStatsService userStatsService;
+    private final QuizReadCircuitBreaker quizReadCircuitBreaker;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Answer> buffer;
+    private final int batchSize;
+    private final Object flushLock = new Object();
+
+    public AnswerCounterBuffer(
+            JdbcTemplate jdbcTemplate,
+            WordPairRepository wordPairRepository,
+            UserStatsService userStatsService,
+            QuizReadCircuitBreaker quizReadCircuitBreaker,
+            TransactionTemplate transactionTemplate,
+            @Value("${quiz.answer-buffer.capacity:10000}") int capacity,
+            @Value("${quiz.answer-buffer.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.wordPairRepository = wordPairRepository;
+        this.userStatsService = userStatsService;
+        this.quizReadCircuitBreaker = quizReadCircuitBreaker;
+        this.transactionTemplate = transactionTemplate;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+    }
+
+    public void record(long userId, long wordPairId, boolean correct) {
+        Answer answer = new Answer(userId, wordPairId, correct);
+        if (!buffer.offer(answer)) {
+            if (quizReadCircuitBreaker.isOpen()) {
+                log.warn("Answer buffer full while the database is unavailable, dropping an answer of user {}", userId);
+                return;
+            }
+            apply(List.of(answer));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${quiz.answer-buffer.flush-interval-ms:1000}")
+    public void flush() {
+        if (quizReadCircuitBreaker.isOpen()) {
+            return;
+        }
+        synchronized (flushLock) {
+            List<Answer> batch = new ArrayList<>(batchSize);
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                if (!apply(batch)) {
+                    requeue(batch);
+                    return;
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    public int buffered() {
+        return buffer.size();
+    }
+
+    /**
+     * @return false if the counters or their change log could not be written; the
+     * transaction was rolled back, so replaying the answers does not count them twice
+     */
+    private boolean apply(List<Answer> answers) {
+        Map<Long, int[]> deltas = new LinkedHashMap<>();
+        for (Answer answer : answers) {
+            deltas.computeIfAbsent(answer.wordPairId(), id -> new int[2])[answer.correct() ? 0 : 1]++;
+        }
+
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((wordPairId, delta) -> rows.add(new Object[]{delta[0], delta[1], wordPairId}));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, rows);
+                wordPairRepository.logCounterChanges(deltas.keySet());
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply counters of {} answers, will retry", answers.size(), e);
+            return false;
+        }
+
+        Map<Long, int[]> counts = currentCounts(new ArrayList<>(deltas.keySet()));
+        for (Answer answer : answers) {
+            int[] count = counts.get(answer.wordPairId());
+            if (count == null) {
+                continue; // Word was deleted in the meantime
+            }
+            try {
+                userStatsService.recordAnswer(answer.userId(), answer.wordPairId(), answer.correct(),
+                        count[0], count[1]);
+            } catch (RuntimeException e) {
+                log.warn("Failed to record answer of user {} in stats", answer.userId(), e);
+            }
+        }
+        return true;
+    }
+
+    private void requeue(List<Answer> answers) {
+        int dropped = 0;
+        for (Answer answer : answers) {
+            if (!buffer.offer(answer)) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            log.warn("Answer buffer full, dropped {} answers that could not be applied", dropped);
+        }
+    }
+
+    private Map<Long, int[]> currentCounts(List<Long> wordPairIds) {
+        Map<Long, int[]> counts = new HashMap<>(wordPairIds.size() * 2);
+        for (int from = 0; from < wordPairIds.size(); from += SELECT_CHUNK) {
+            List<Long> chunk = wordPairIds.subList(from, Math.min(from + SELECT_CHUNK, wordPairIds.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query(
+                    "SELECT id, correct_count, incorrect_count FROM word_pairs WHERE id IN (" + placeholders + ")",
+                    rs -> {
+                        counts.put(rs.getLong(1), new int[]{rs.getInt(2), rs.getInt(3)});
+                    },
+                    chunk.toArray());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.wordle.service;
+
+import com.example.wordle.entity.AnswerEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers answer events in a bounded ring buffer and writes them to
+ * {@code answer_events} in JDBC batches from a background flush, so answering
+ * a question never waits on the history insert. Each batch is inserted in its
+ * own transaction, so one that fails leaves no rows behind; it goes back to the
+ * buffer and is retried on the next flush, up to {@code max-attempts} times
+ * per event.
+ */
+@Slf4j
+@Component
+public class AnswerHistoryWriter {
+
+    /**
+     * What to do with an event when the buffer is full.
+     * DROP sheds the event, WRITE_THROUGH inserts it on the caller's thread.
+     */
+    public enum OverflowPolicy {
+        DROP,
+        WRITE_THROUGH
+    }
+
+    private record Pending(AnswerEvent event, int attempts) {
+    }
+
+    private static final String INSERT_SQL =
+            "INSERT INTO answer_events (user_id, word_pair_id, correct, answer, latency_ms, answered_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Pending> buffer;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final int maxAttempts;
+    private final Object flushLock = new Object();
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter writeThroughCounter;
+    private final Counter writtenCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    public AnswerHistoryWriter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${answer-history.capacity:10000}") int capacity,
+            @Value("${answer-history.batch-size:500}") int batchSize,
+            @Value("${answer-history.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+            @Value("${answer-history.max-attempts:5}") int maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        // A write-through insert runs in afterCommit, where the answer's transaction is finished but still bound
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.maxAttempts = maxAttempts;
+
+        meterRegistry.gauge("answer_history.buffer.size", buffer, BlockingQueue::size);
+        meterRegistry.gauge("answer_history.buffer.remaining", buffer, BlockingQueue::remainingCapacity);
+        this.enqueuedCounter = eventCounter(meterRegistry, "enqueued");
+        this.droppedCounter = eventCounter(meterRegistry, "dropped");
+        this.writeThroughCounter = eventCounter(meterRegistry, "write_through");
+        this.writtenCounter = eventCounter(meterRegistry, "written");
+        this.retriedCounter = eventCounter(meterRegistry, "retried");
+        this.failedCounter = eventCounter(meterRegistry, "failed");
+        this.flushTimer = Timer.builder("answer_history.flush").register(meterRegistry);
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("answer_history.events")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Buffers the event once the current transaction commits, so an answer
+     * that is rolled back leaves no history behind.
+     */
+    public void record(Long userId, Long wordPairId, boolean correct, String answer, Long latencyMs) {
+        AnswerEvent event = AnswerEvent.builder()
+                .userId(userId)
+                .wordPairId(wordPairId)
+                .correct(correct)
+                .answer(answer)
+                .latencyMs(latencyMs)
+                .answeredAt(LocalDateTime.now())
+                .build();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+        } else {
+            enqueue(event);
+        }
+    }
+
+    private void enqueue(AnswerEvent event) {
+        if (buffer.offer(new Pending(event, 0))) {
+            enqueuedCounter.increment();
+            return;
+        }
+
+        if (overflowPolicy == OverflowPolicy.WRITE_THROUGH) {
+            writeThroughCounter.increment();
+            if (!write(List.of(new Pending(event, 0)))) {
+                failedCounter.increment();
+            }
+        } else {
+            droppedCounter.increment();
+        }
+    }
+
+    /**
+     * Drains everything that is currently buffered, one batch at a time. Stops
+     * at the first batch that fails, which waits in the buffer for the next flush.
+     */
+    @Scheduled(fixedDelayString = "${answer-history.flush-interval-ms:500}")
+    public void flush() {
+        synchronized (flushLock) {
+            List<Pending> batch = new ArrayList<>(batchSize);
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                long start = System.nanoTime();
+                boolean written = write(batch);
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (!written) {
+                    requeue(batch);
+                    return;
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    int buffered() {
+        return buffer.size();
+    }
+
+    /**
+     * @return false if the batch could not be inserted; its transaction was
+     * rolled back, so a retry does not duplicate rows that did make it
+     */
+    private boolean write(List<Pending> events) {
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (Pending pending : events) {
+            AnswerEvent event = pending.event();
+            rows.add(new Object[]{
+                    event.getUserId(),
+                    event.getWordPairId(),
+                    event.isCorrect(),
+                    event.getAnswer(),
+                    event.getLatencyMs(),
+                    Timestamp.valueOf(event.getAnsweredAt())
+            });
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows));
+            writtenCounter.increment(events.size());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} answer events, will retry", events.size(), e);
+            return false;
+        }
+    }
+
+    private void requeue(List<Pending> events) {
+        int failed = 0;
+        for (Pending pending : events) {
+            int attempts = pending.attempts() + 1;
+            if (attempts < maxAttempts && buffer.offer(new Pending(pending.event(), attempts))) {
+                retriedCounter.increment();
+            } else {
+                failed++;
+            }
+        }
+        if (failed > 0) {
+            failedCounter.increment(failed);
+            log.warn("Gave up on {} answer events after {} attempts or with the buffer full", failed, maxAttempts);
+        }
+    }
+}
@@ -7,13 +7,10 @@ import com.example.wordle.entity.User;
 import com.example.wordle.exception.ConflictException;
 import com.example.wordle.exception.NotFoundException;
 import com.example.wordle.repository.UserRepository;
-import com.example.wordle.security.JwtUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,9 +22,9 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final JwtUtils jwtUtils;
     private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
+    private final TokenService tokenService;
+    private final UserStatsService userStatsService;
 
     @Transactional
     public AuthResponse signup(SignupRequest request) {
@@ -46,15 +43,9 @@ public class AuthService {
                 .build();
 
         userRepository.save(user);
+        userStatsService.createStats(user.getId());
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getUsername());
-        String token = jwtUtils.generateToken(userDetails);
-
-        return AuthResponse.builder()
-                .token(token)
-                .username(user.getUsername())
-                .email(user.getEmail())
-                .build();
+        return tokenService.issue(user);
     }
 
     public AuthResponse login(LoginRequest request) {
@@ -68,13 +59,6 @@ public class AuthService {
         User user = userRepository.findByUsername(request.getUsername())
                 .orElseThrow(() -> new NotFoundException("User not found"));
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getUsername());
-        String token = jwtUtils.generateToken(userDetails);
-
-        return AuthResponse.builder()
-                .token(token)
-                .username(user.getUsername())
-                .email(user.getEmail())
-                .build();
+        return tokenService.issue(user);
     }
 }
\ No newline at end of file
@@ -0,0 +1,171 @@
+package com.example.wordle.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Listens for invalidations published by other instances on a dedicated
+ * connection to the primary, outside the pool. Notifications sent while the
+ * connection is down are lost, so every (re)connect starts with a full flush
+ * of all caches. Waiting for notifications never touches the socket, so a
+ * half-open connection would look like a quiet channel forever: once per poll
+ * timeout the connection is probed with {@code SELECT 1} under a network
+ * timeout, and a probe that fails or hangs forces the reconnect.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.enabled", havingValue = "true")
+public class CacheInvalidationListener {
+
+    private final Map<String, InvalidatableCache> caches;
+    private final String instanceId;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int pollTimeoutMs;
+    private final int networkTimeoutMs;
+    private final long reconnectDelayMs;
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private volatile Connection connection;
+    private Thread thread;
+
+    public CacheInvalidationListener(
+            List<InvalidatableCache> caches,
+            CacheInvalidationNotifier notifier,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${cache.invalidation.poll-timeout-ms:10000}") int pollTimeoutMs,
+            @Value("${cache.invalidation.network-timeout-ms:5000}") int networkTimeoutMs,
+            @Value("${cache.invalidation.reconnect-delay-ms:5000}") long reconnectDelayMs) {
+        this.caches = caches.stream()
+                .collect(Collectors.toMap(InvalidatableCache::cacheName, Function.identity()));
+        this.instanceId = notifier.instanceId();
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.networkTimeoutMs = networkTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        thread = new Thread(this::listen, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        thread.interrupt();
+        closeQuietly(connection);
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection conn = DriverManager.getConnection(url, username, password)) {
+                connection = conn;
+                // Applies to the probe below; getNotifications sets its own timeout while it waits
+                conn.setNetworkTimeout(Runnable::run, networkTimeoutMs);
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("LISTEN " + CacheInvalidationNotifier.CHANNEL);
+                }
+                caches.values().forEach(InvalidatableCache::evictAll);
+                listening = true;
+                log.info("Listening for cache invalidations, flushed {} caches", caches.size());
+
+                PGConnection pgConnection = conn.unwrap(PGConnection.class);
+                long nextProbe = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pollTimeoutMs);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                    if (System.nanoTime() - nextProbe >= 0) {
+                        probe(conn);
+                        nextProbe = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pollTimeoutMs);
+                    }
+                }
+            } catch (SQLException e) {
+                listening = false;
+                if (running) {
+                    log.warn("Cache invalidation connection lost, reconnecting in {} ms", reconnectDelayMs, e);
+                    pause();
+                }
+            }
+        }
+    }
+
+    private static void probe(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        }
+    }
+
+    boolean isListening() {
+        return listening;
+    }
+
+    void handle(String payload) {
+        String[] parts = payload.split(":");
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed cache invalidation '{}'", payload);
+            return;
+        }
+        if (instanceId.equals(parts[2])) {
+            return; // Already evicted locally after commit
+        }
+        InvalidatableCache cache = caches.get(parts[0]);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.evict(Long.valueOf(parts[1]));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed cache invalidation '{}'", payload);
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(reconnectDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // Shutting down anyway
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.wordle.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Publishes cache invalidations to other instances with Postgres {@code NOTIFY}.
+ * The notification is sent on the caller's transaction, so Postgres delivers it
+ * only if that transaction commits. Does nothing unless
+ * {@code cache.invalidation.enabled} is set.
+ */
+@Component
+public class CacheInvalidationNotifier {
+
+    static final String CHANNEL = "cache_invalidation";
+
+    private static final ResultSetExtractor<Void> IGNORE_RESULT = rs -> null;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public CacheInvalidationNotifier(JdbcTemplate jdbcTemplate,
+                                     @Value("${cache.invalidation.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    public void publish(InvalidatableCache cache, Long userId) {
+        if (!enabled) {
+            return;
+        }
+        String payload = cache.cacheName() + ":" + userId + ":" + instanceId;
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", IGNORE_RESULT, CHANNEL, payload);
+    }
+
+    String instanceId() {
+        return instanceId;
+    }
+}
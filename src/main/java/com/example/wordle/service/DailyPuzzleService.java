@@ -0,0 +1,169 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.DailyGuessResultDTO;
+import com.example.wordle.dto.DailyPuzzleDTO;
+import com.example.wordle.dto.LetterFeedback;
+import com.example.wordle.entity.WordPair;
+import com.example.wordle.exception.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The puzzle everyone shares on a given day. The curated list in
+ * {@code daily-puzzle/words.txt} is shuffled once with a fixed seed, so every
+ * instance picks the same target for a day, and no target repeats until the
+ * whole list has been used. The day's puzzle is an immutable snapshot with its
+ * response body already serialized; it is swapped in by a job at midnight, and
+ * reading it never touches the database.
+ */
+@Slf4j
+@Service
+public class DailyPuzzleService {
+
+    public static final int WORD_LENGTH = 5;
+
+    private static final String WORDS_RESOURCE = "daily-puzzle/words.txt";
+    // Puzzle #1
+    private static final LocalDate FIRST_DAY = LocalDate.of(2026, 1, 1);
+    private static final ObjectMapper JSON = JsonMapper.builder().build();
+
+    /**
+     * One day's puzzle. {@code body} is the serialized {@link DailyPuzzleDTO};
+     * callers must not modify it. {@code expires} is the next midnight.
+     */
+    public record Puzzle(LocalDate date, int number, String target, byte[] body, String etag, Instant expires) {
+    }
+
+    private record Entry(String polish, String ukrainian) {
+    }
+
+    private final List<Entry> targets;
+    private final Clock clock;
+    private volatile Puzzle puzzle;
+
+    @Autowired
+    public DailyPuzzleService(
+            @Value("${daily-puzzle.seed:20260101}") long seed,
+            @Value("${daily-puzzle.zone:Europe/Warsaw}") String zone) {
+        this(loadWords(), seed, Clock.system(ZoneId.of(zone)));
+    }
+
+    DailyPuzzleService(List<String[]> words, long seed, Clock clock) {
+        List<Entry> entries = new ArrayList<>();
+        for (String[] word : words) {
+            String polish = WordPair.normalize(word[0]);
+            if (polish.length() != WORD_LENGTH || !WordleEvaluator.canEncode(polish)) {
+                throw new IllegalStateException("Daily puzzle word must be " + WORD_LENGTH + " letters: " + word[0]);
+            }
+            entries.add(new Entry(polish, word[1].trim()));
+        }
+        if (entries.isEmpty()) {
+            throw new IllegalStateException("No daily puzzle words in " + WORDS_RESOURCE);
+        }
+        entries.sort(Comparator.comparing(Entry::polish));
+        Collections.shuffle(entries, new Random(seed));
+
+        this.targets = List.copyOf(entries);
+        this.clock = clock;
+        this.puzzle = build(LocalDate.now(clock));
+        log.info("Loaded {} daily puzzle words, today is #{}", targets.size(), puzzle.number());
+    }
+
+    /**
+     * Swaps in the new day's puzzle. {@link #current()} also catches up on its
+     * own, so a late or skipped run only costs one rebuild on the first request.
+     */
+    @Scheduled(cron = "${daily-puzzle.refresh-cron:0 0 0 * * *}", zone = "${daily-puzzle.zone:Europe/Warsaw}")
+    public void refresh() {
+        current();
+    }
+
+    public Puzzle current() {
+        Puzzle current = puzzle;
+        LocalDate today = LocalDate.now(clock);
+        if (!current.date().equals(today)) {
+            current = build(today);
+            puzzle = current;
+        }
+        return current;
+    }
+
+    public DailyGuessResultDTO guess(String guess) {
+        String normalized = WordPair.normalize(guess);
+        if (normalized.length() != WORD_LENGTH || !WordleEvaluator.canEncode(normalized)) {
+            throw new BadRequestException("Guess must be " + WORD_LENGTH + " Polish or Ukrainian letters");
+        }
+        Puzzle today = current();
+        int pattern = WordleEvaluator.evaluate(
+                WordleEvaluator.encode(today.target()), WordleEvaluator.encode(normalized));
+        return DailyGuessResultDTO.builder()
+                .number(today.number())
+                .guess(normalized)
+                .letters(WordleEvaluator.feedback(pattern, WORD_LENGTH))
+                .solved(pattern == WordleEvaluator.solvedPattern(WORD_LENGTH))
+                .build();
+    }
+
+    static List<LetterFeedback> evaluate(String target, String guess) {
+        return WordleEvaluator.feedback(
+                WordleEvaluator.evaluate(WordleEvaluator.encode(target), WordleEvaluator.encode(guess)),
+                guess.length());
+    }
+
+    private Puzzle build(LocalDate date) {
+        int number = (int) ChronoUnit.DAYS.between(FIRST_DAY, date) + 1;
+        Entry target = targets.get(Math.floorMod(number - 1, targets.size()));
+        byte[] body = JSON.writeValueAsBytes(DailyPuzzleDTO.builder()
+                .number(number)
+                .date(date)
+                .length(WORD_LENGTH)
+                .hint(target.ukrainian())
+                .build());
+        return new Puzzle(date, number, target.polish(), body, "\"daily-" + number + "\"",
+                date.plusDays(1).atStartOfDay(clock.getZone()).toInstant());
+    }
+
+    private static List<String[]> loadWords() {
+        List<String[]> words = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(WORDS_RESOURCE).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split(";", 2);
+                if (parts.length != 2) {
+                    throw new IllegalStateException("Expected 'polish;ukrainian' in " + WORDS_RESOURCE + ": " + line);
+                }
+                words.add(parts);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + WORDS_RESOURCE, e);
+        }
+        return words;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.wordle.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Groups the answer-side words of a vocabulary into similarity buckets, from
+ * "same part of speech, length band and first two letters" down to "same part
+ * of speech". Distractors are drawn from the finest bucket that has enough
+ * candidates, falling back to uniform sampling over the whole vocabulary.
+ */
+final class DistractorIndex {
+
+    private static final int LEVELS = 4;
+    private static final int RANDOM_ATTEMPTS_PER_PICK = 4;
+
+    private final long[] ids;
+    private final String[] words;
+    private final Function<String, PartOfSpeechHint> hint;
+    private final List<Map<String, int[]>> buckets = new ArrayList<>(LEVELS);
+
+    DistractorIndex(long[] ids, String[] words, Function<String, PartOfSpeechHint> hint) {
+        this.ids = ids;
+        this.words = words;
+        this.hint = hint;
+
+        List<Map<String, List<Integer>>> building = new ArrayList<>(LEVELS);
+        for (int level = 0; level < LEVELS; level++) {
+            building.add(new HashMap<>());
+        }
+        for (int i = 0; i < words.length; i++) {
+            String[] keys = keys(words[i]);
+            for (int level = 0; level < LEVELS; level++) {
+                building.get(level).computeIfAbsent(keys[level], k -> new ArrayList<>()).add(i);
+            }
+        }
+        for (Map<String, List<Integer>> level : building) {
+            Map<String, int[]> frozen = new HashMap<>(level.size() * 2);
+            level.forEach((key, members) -> frozen.put(key,
+                    members.stream().mapToInt(Integer::intValue).toArray()));
+            buckets.add(frozen);
+        }
+    }
+
+    /**
+     * Picks up to {@code count} distinct words that differ from the correct answer
+     * and do not belong to the excluded word pair.
+     */
+    List<String> pick(String correctAnswer, long excludedId, int count) {
+        String[] keys = keys(correctAnswer);
+        for (int level = 0; level < LEVELS; level++) {
+            int[] bucket = buckets.get(level).get(keys[level]);
+            if (bucket != null && bucket.length > count) {
+                List<String> picked = sample(bucket, bucket.length, correctAnswer, excludedId, count);
+                if (picked.size() == count) {
+                    return picked;
+                }
+            }
+        }
+        return sample(null, words.length, correctAnswer, excludedId, count);
+    }
+
+    // candidates == null means every word of the vocabulary
+    private List<String> sample(int[] candidates, int size, String correctAnswer, long excludedId, int count) {
+        List<String> picked = new ArrayList<>(count);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int attempt = 0; attempt < count * RANDOM_ATTEMPTS_PER_PICK && picked.size() < count; attempt++) {
+            int index = candidates == null ? random.nextInt(size) : candidates[random.nextInt(size)];
+            offer(index, correctAnswer, excludedId, picked);
+        }
+
+        // Small or duplicate-heavy buckets: finish with one pass from a random offset
+        int offset = random.nextInt(size);
+        for (int i = 0; i < size && picked.size() < count; i++) {
+            int position = (offset + i) % size;
+            offer(candidates == null ? position : candidates[position], correctAnswer, excludedId, picked);
+        }
+        return picked;
+    }
+
+    private void offer(int index, String correctAnswer, long excludedId, List<String> picked) {
+        String word = words[index];
+        if (ids[index] == excludedId || word.equalsIgnoreCase(correctAnswer)) {
+            return;
+        }
+        for (String existing : picked) {
+            if (existing.equalsIgnoreCase(word)) {
+                return;
+            }
+        }
+        picked.add(word);
+    }
+
+    private String[] keys(String word) {
+        String normalized = word.trim().toLowerCase(Locale.ROOT);
+        String coarse = hint.apply(normalized).name();
+        String band = coarse + '|' + Math.min(normalized.length(), 12) / 2;
+        String firstLetter = band + '|' + (normalized.isEmpty() ? "" : normalized.substring(0, 1));
+        String firstTwo = band + '|' + (normalized.length() < 2 ? normalized : normalized.substring(0, 2));
+        return new String[]{firstTwo, firstLetter, band, coarse};
+    }
+}
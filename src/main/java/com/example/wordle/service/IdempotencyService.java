@@ -0,0 +1,378 @@
+package com.example.wordle.service;
+
+import com.example.wordle.exception.BadRequestException;
+import com.example.wordle.exception.ConflictException;
+import com.example.wordle.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs a request sent with an {@code Idempotency-Key} once per user, endpoint
+ * and key, and answers retries with the stored status and body of the first
+ * response. A retry arriving while the first request still runs waits for its
+ * response instead of running it again. Only responses are stored: a request
+ * that throws releases its key, so the client can retry it.
+ * <p>
+ * {@code MEMORY} keeps keys in a bounded map on this instance, which is enough
+ * with sticky routing or a single instance. {@code DATABASE} keeps them in
+ * {@code idempotency_keys}, where the unique key decides which instance runs a
+ * request and the others poll for its response. A claim without a response is
+ * only taken over after {@code idempotency.claim-lease-ms}, which has to
+ * outlast any request; it exists for instances that die mid-request.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    public enum Store {
+        MEMORY,
+        DATABASE
+    }
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long POLL_INTERVAL_MS = 50;
+    private static final int CLEANUP_CHUNK_SIZE = 5000;
+
+    private static final String CLAIM_SQL = "INSERT INTO idempotency_keys "
+            + "(user_id, scope, request_hash, created_at, expires_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String FIND_SQL = "SELECT id, request_hash, status, body, expires_at "
+            + "FROM idempotency_keys WHERE user_id = ? AND scope = ?";
+    private static final String COMPLETE_SQL = "UPDATE idempotency_keys SET status = ?, body = ?, expires_at = ? WHERE id = ?";
+    private static final String RELEASE_SQL = "DELETE FROM idempotency_keys WHERE id = ?";
+    private static final String RELEASE_EXPIRED_SQL = "DELETE FROM idempotency_keys WHERE id = ? AND expires_at < ?";
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM idempotency_keys WHERE id IN ("
+            + "SELECT id FROM idempotency_keys WHERE expires_at < ? LIMIT ?)";
+
+    private static final RowMapper<StoredKey> STORED_KEY_MAPPER = (rs, rowNum) -> new StoredKey(
+            rs.getLong("id"),
+            rs.getString("request_hash"),
+            rs.getObject("status", Integer.class),
+            rs.getBytes("body"),
+            rs.getTimestamp("expires_at").toLocalDateTime());
+
+    private record StoredKey(long id, String requestHash, Integer status, byte[] body, LocalDateTime expiresAt) {
+    }
+
+    private record Response(int status, byte[] body, boolean replayed) {
+
+        private ResponseEntity<byte[]> toResponseEntity() {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON);
+            if (replayed) {
+                builder.header(REPLAYED_HEADER, "true");
+            }
+            return builder.body(body);
+        }
+
+        private Response asReplay() {
+            return new Response(status, body, true);
+        }
+    }
+
+    private static final class Entry {
+        private final String requestHash;
+        private final CompletableFuture<Response> response = new CompletableFuture<>();
+        // Set before the response is completed
+        private volatile long expiresAtNanos;
+
+        private Entry(String requestHash) {
+            this.requestHash = requestHash;
+        }
+
+        private boolean isExpired(long nowNanos) {
+            return response.isDone() && nowNanos - expiresAtNanos > 0;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final Store store;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Duration inProgressTimeout;
+    private final Duration claimLease;
+    private final int maxBodyBytes;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Counter executedCounter;
+    private final Counter replayedCounter;
+    private final Counter mismatchedCounter;
+    private final Counter inProgressCounter;
+
+    public IdempotencyService(
+            ObjectMapper objectMapper,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.store:MEMORY}") Store store,
+            @Value("${idempotency.ttl-ms:86400000}") long ttlMs,
+            @Value("${idempotency.max-entries:100000}") int maxEntries,
+            @Value("${idempotency.in-progress-ms:10000}") long inProgressMs,
+            @Value("${idempotency.claim-lease-ms:300000}") long claimLeaseMs,
+            @Value("${idempotency.max-body-bytes:1048576}") int maxBodyBytes) {
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.store = store;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.maxEntries = maxEntries;
+        this.inProgressTimeout = Duration.ofMillis(inProgressMs);
+        this.claimLease = Duration.ofMillis(claimLeaseMs);
+        this.maxBodyBytes = maxBodyBytes;
+
+        meterRegistry.gaugeMapSize("idempotency.entries", Tags.empty(), entries);
+        this.executedCounter = outcomeCounter(meterRegistry, "executed");
+        this.replayedCounter = outcomeCounter(meterRegistry, "replayed");
+        this.mismatchedCounter = outcomeCounter(meterRegistry, "mismatched");
+        this.inProgressCounter = outcomeCounter(meterRegistry, "in_progress");
+    }
+
+    /**
+     * Runs {@code action}, or returns the response it gave for an earlier
+     * request with the same key. Without a key the action simply runs.
+     *
+     * @param endpoint names the endpoint, so one key can be used on several
+     * @param request  the request body; a retry has to send the same one
+     * @throws BadRequestException if the key was used for a different request
+     * @throws ConflictException   if the first request is still running after
+     *                             {@code idempotency.in-progress-ms}
+     */
+    public ResponseEntity<?> execute(String key, String endpoint, Object request,
+                                     Supplier<? extends ResponseEntity<?>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException(HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+
+        Long userId = AuthenticatedUser.current().getId();
+        String scope = endpoint + " " + key;
+        String requestHash = hash(request);
+        Response response = store == Store.DATABASE
+                ? executeShared(userId, scope, requestHash, action)
+                : executeLocal(userId + " " + scope, requestHash, action);
+        return response.toResponseEntity();
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        if (store == Store.DATABASE) {
+            try {
+                jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.valueOf(now()), CLEANUP_CHUNK_SIZE);
+            } catch (RuntimeException e) {
+                log.warn("Idempotency key cleanup failed, will retry", e);
+            }
+        }
+    }
+
+    private Response executeLocal(String mapKey, String requestHash, Supplier<? extends ResponseEntity<?>> action) {
+        makeRoom();
+        Entry entry = new Entry(requestHash);
+        Entry existing;
+        while ((existing = entries.putIfAbsent(mapKey, entry)) != null && existing.isExpired(System.nanoTime())) {
+            entries.remove(mapKey, existing);
+        }
+        if (existing != null) {
+            checkSameRequest(existing.requestHash, requestHash);
+            return await(existing.response);
+        }
+
+        Response response;
+        try {
+            response = run(action);
+        } catch (Throwable e) {
+            // Errors too, or the waiters would never be woken and the key would stay taken
+            entries.remove(mapKey, entry);
+            entry.response.completeExceptionally(e);
+            throw e;
+        }
+        if (response.body().length > maxBodyBytes) {
+            entries.remove(mapKey, entry);
+        }
+        entry.expiresAtNanos = System.nanoTime() + ttl.toNanos();
+        entry.response.complete(response);
+        return response;
+    }
+
+    private Response await(CompletableFuture<Response> pending) {
+        try {
+            Response response = pending.get(inProgressTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            replayedCounter.increment();
+            return response.asReplay();
+        } catch (TimeoutException e) {
+            inProgressCounter.increment();
+            throw inProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        } catch (ExecutionException e) {
+            // The first request failed and released the key; its caller and the waiters get the same error
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Response executeShared(Long userId, String scope, String requestHash,
+                                   Supplier<? extends ResponseEntity<?>> action) {
+        long deadline = System.nanoTime() + inProgressTimeout.toNanos();
+        Long claimId;
+        while ((claimId = claim(userId, scope, requestHash)) == null) {
+            List<StoredKey> rows = jdbcTemplate.query(FIND_SQL, STORED_KEY_MAPPER, userId, scope);
+            if (!rows.isEmpty()) {
+                StoredKey row = rows.get(0);
+                LocalDateTime now = now();
+                if (row.expiresAt().isBefore(now)) {
+                    // Past its TTL, or claimed by an instance that died before storing a response
+                    jdbcTemplate.update(RELEASE_EXPIRED_SQL, row.id(), Timestamp.valueOf(now));
+                    continue;
+                }
+                checkSameRequest(row.requestHash(), requestHash);
+                if (row.status() != null) {
+                    replayedCounter.increment();
+                    return new Response(row.status(), row.body(), true);
+                }
+            }
+            if (System.nanoTime() - deadline > 0) {
+                inProgressCounter.increment();
+                throw inProgress();
+            }
+            sleep();
+        }
+
+        Response response;
+        try {
+            response = run(action);
+        } catch (Throwable e) {
+            jdbcTemplate.update(RELEASE_SQL, claimId);
+            throw e;
+        }
+        if (response.body().length > maxBodyBytes) {
+            jdbcTemplate.update(RELEASE_SQL, claimId);
+        } else if (jdbcTemplate.update(COMPLETE_SQL, response.status(), response.body(),
+                Timestamp.valueOf(now().plus(ttl)), claimId) == 0) {
+            log.warn("Idempotency claim for {} of user {} was taken over after {} while its request ran; "
+                    + "the response is not stored and a retry runs the request again", scope, userId, claimLease);
+        }
+        return response;
+    }
+
+    /**
+     * @return the id of the new row, or null if the key is already taken
+     */
+    private Long claim(Long userId, String scope, String requestHash) {
+        LocalDateTime now = now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(CLAIM_SQL, new String[]{"id"});
+                statement.setLong(1, userId);
+                statement.setString(2, scope);
+                statement.setString(3, requestHash);
+                statement.setTimestamp(4, Timestamp.valueOf(now));
+                // Until a response is stored the row is a lease, freed early only by RELEASE_SQL
+                statement.setTimestamp(5, Timestamp.valueOf(now.plus(claimLease)));
+                return statement;
+            }, keyHolder);
+        } catch (DuplicateKeyException e) {
+            return null;
+        }
+        return keyHolder.getKeyAs(Long.class);
+    }
+
+    private Response run(Supplier<? extends ResponseEntity<?>> action) {
+        ResponseEntity<?> result = action.get();
+        executedCounter.increment();
+        return new Response(result.getStatusCode().value(), objectMapper.writeValueAsBytes(result.getBody()), false);
+    }
+
+    private void checkSameRequest(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            mismatchedCounter.increment();
+            throw new BadRequestException(HEADER + " was already used for a different request");
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private void makeRoom() {
+        if (entries.size() >= maxEntries) {
+            // Running requests stay: dropping one would let its retries run it again
+            Iterator<Entry> values = entries.values().iterator();
+            while (values.hasNext()) {
+                if (values.next().response.isDone()) {
+                    values.remove();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        }
+    }
+
+    private static ConflictException inProgress() {
+        return new ConflictException("A request with this " + HEADER + " is still in progress");
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("idempotency.requests")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
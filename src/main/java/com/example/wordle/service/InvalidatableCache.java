@@ -0,0 +1,17 @@
+package com.example.wordle.service;
+
+/**
+ * An in-process cache of per-user data that other instances can invalidate
+ * through {@link CacheInvalidationNotifier}.
+ */
+public interface InvalidatableCache {
+
+    /**
+     * Name used in invalidation messages; must not contain {@code ':'}.
+     */
+    String cacheName();
+
+    void evict(Long userId);
+
+    void evictAll();
+}
@@ -0,0 +1,292 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.LeaderboardDTO;
+import com.example.wordle.dto.LeaderboardEntryDTO;
+import com.example.wordle.dto.LeaderboardPeriod;
+import com.example.wordle.entity.LeaderboardScore;
+import com.example.wordle.repository.LeaderboardScoreRepository;
+import com.example.wordle.security.AuthenticatedUser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Weekly and all-time leaderboards of correct answers. Scores live in two
+ * {@link RankedScoreIndex} instances; answers only touch memory, and the
+ * accumulated deltas are added to {@code leaderboard_scores} by a periodic
+ * checkpoint. The indexes are rebuilt from that table at startup and reloaded
+ * periodically so that instances converge on the same totals.
+ * <p>
+ * Answers count once their transaction commits. Deltas are kept per week, so
+ * those still pending at the week rollover are written to the week they were
+ * earned in; a row never moves back to an older week.
+ */
+@Slf4j
+@Service
+public class LeaderboardService {
+
+    private record PendingKey(Long userId, LocalDate week) {
+    }
+
+    private static final int MAX_LIMIT = 100;
+
+    // Deltas of an older week than the row's only count towards the all-time score
+    private static final String UPDATE_SQL =
+            "UPDATE leaderboard_scores SET all_time_score = all_time_score + ?, "
+                    + "weekly_score = CASE WHEN week_start = ? THEN weekly_score + ? "
+                    + "WHEN week_start > ? THEN weekly_score ELSE ? END, "
+                    + "week_start = GREATEST(week_start, ?), username = ? WHERE user_id = ?";
+    // Skips closed accounts, so a late checkpoint from another instance cannot put them back
+    private static final String INSERT_SQL =
+            "INSERT INTO leaderboard_scores (user_id, username, all_time_score, weekly_score, week_start) "
+                    + "SELECT u.id, ?, ?, ?, ? FROM users u WHERE u.id = ? AND u.deleted_at IS NULL";
+
+    private final LeaderboardScoreRepository leaderboardScoreRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    private final RankedScoreIndex allTime = new RankedScoreIndex();
+    private final RankedScoreIndex weekly = new RankedScoreIndex();
+    private final Map<Long, String> usernames = new ConcurrentHashMap<>();
+    private final Map<PendingKey, Long> pendingDeltas = new ConcurrentHashMap<>();
+    private final Object checkpointLock = new Object();
+    private volatile LocalDate weekStart;
+
+    @Autowired
+    public LeaderboardService(LeaderboardScoreRepository leaderboardScoreRepository,
+                              JdbcTemplate jdbcTemplate) {
+        this(leaderboardScoreRepository, jdbcTemplate, Clock.systemDefaultZone());
+    }
+
+    LeaderboardService(LeaderboardScoreRepository leaderboardScoreRepository,
+                       JdbcTemplate jdbcTemplate,
+                       Clock clock) {
+        this.leaderboardScoreRepository = leaderboardScoreRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.weekStart = startOfWeek(LocalDate.now(clock));
+    }
+
+    /**
+     * Counts a correct answer once the current transaction commits, so an
+     * answer that is rolled back is neither ranked nor checkpointed.
+     */
+    public void recordCorrectAnswer(Long userId, String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addCorrectAnswer(userId, username);
+                }
+            });
+        } else {
+            addCorrectAnswer(userId, username);
+        }
+    }
+
+    private void addCorrectAnswer(Long userId, String username) {
+        LocalDate week = currentWeek();
+        usernames.put(userId, username);
+        allTime.add(userId, 1);
+        weekly.add(userId, 1);
+        pendingDeltas.merge(new PendingKey(userId, week), 1L, Long::sum);
+    }
+
+    /**
+     * Drops a closed account from this instance's indexes once the current
+     * transaction commits. Other instances drop it at their next reload, which
+     * no longer finds its row.
+     */
+    public void removeUserAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeUser(userId);
+                }
+            });
+        } else {
+            removeUser(userId);
+        }
+    }
+
+    private void removeUser(Long userId) {
+        allTime.remove(userId);
+        weekly.remove(userId);
+        usernames.remove(userId);
+        pendingDeltas.keySet().removeIf(key -> key.userId().equals(userId));
+    }
+
+    public LeaderboardDTO getLeaderboard(LeaderboardPeriod period, int limit) {
+        Long userId = AuthenticatedUser.current().getId();
+        currentWeek();
+        RankedScoreIndex index = period == LeaderboardPeriod.WEEKLY ? weekly : allTime;
+
+        List<LeaderboardEntryDTO> entries = index.top(Math.max(1, Math.min(limit, MAX_LIMIT))).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+        RankedScoreIndex.Entry own = index.find(userId);
+
+        return LeaderboardDTO.builder()
+                .period(period)
+                .entries(entries)
+                .you(own == null ? null : toDTO(own))
+                .build();
+    }
+
+    /**
+     * Adds the deltas collected since the previous checkpoint to the table, the
+     * oldest week first. Deltas that cannot be written are kept for the next attempt.
+     */
+    @Scheduled(fixedDelayString = "${leaderboard.checkpoint-interval-ms:30000}")
+    public void checkpoint() {
+        synchronized (checkpointLock) {
+            if (pendingDeltas.isEmpty()) {
+                return;
+            }
+            Map<LocalDate, Map<Long, Long>> byWeek = new TreeMap<>();
+            for (PendingKey key : List.copyOf(pendingDeltas.keySet())) {
+                Long delta = pendingDeltas.remove(key);
+                if (delta != null) {
+                    byWeek.computeIfAbsent(key.week(), week -> new HashMap<>()).put(key.userId(), delta);
+                }
+            }
+
+            List<LocalDate> weeks = new ArrayList<>(byWeek.keySet());
+            for (int i = 0; i < weeks.size(); i++) {
+                try {
+                    write(weeks.get(i), byWeek.get(weeks.get(i)));
+                } catch (RuntimeException e) {
+                    log.warn("Leaderboard checkpoint of week {} failed, will retry", weeks.get(i), e);
+                    for (LocalDate week : weeks.subList(i, weeks.size())) {
+                        byWeek.get(week).forEach((userId, delta) ->
+                                pendingDeltas.merge(new PendingKey(userId, week), delta, Long::sum));
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    private void write(LocalDate weekOf, Map<Long, Long> deltas) {
+        Date week = Date.valueOf(weekOf);
+        List<Long> userIds = new ArrayList<>(deltas.keySet());
+        List<Object[]> updates = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            long delta = deltas.get(userId);
+            updates.add(new Object[]{delta, week, delta, week, delta, week, usernames.get(userId), userId});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                Long userId = userIds.get(i);
+                long delta = deltas.get(userId);
+                inserts.add(new Object[]{usernames.get(userId), delta, delta, week, userId});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            reload();
+            log.debug("Leaderboard rebuilt with {} users", allTime.size());
+        } catch (RuntimeException e) {
+            // Not fatal: the periodic reload will fill the index once the table is readable
+            log.warn("Could not rebuild leaderboard at startup", e);
+        }
+    }
+
+    /**
+     * Replaces in-memory scores with the checkpointed totals plus anything not yet written.
+     * Users without a row and without pending deltas are dropped, which is how closed
+     * accounts leave the leaderboard of every instance.
+     */
+    @Scheduled(initialDelayString = "${leaderboard.reload-interval-ms:300000}",
+            fixedDelayString = "${leaderboard.reload-interval-ms:300000}")
+    public void reload() {
+        synchronized (checkpointLock) {
+            checkpoint();
+            LocalDate week = currentWeek();
+            Map<Long, Long> pendingAllTime = new HashMap<>();
+            Map<Long, Long> pendingWeekly = new HashMap<>();
+            pendingDeltas.forEach((key, delta) -> {
+                pendingAllTime.merge(key.userId(), delta, Long::sum);
+                if (key.week().equals(week)) {
+                    pendingWeekly.merge(key.userId(), delta, Long::sum);
+                }
+            });
+            Set<Long> ranked = new HashSet<>(pendingAllTime.keySet());
+            for (LeaderboardScore score : leaderboardScoreRepository.findAll()) {
+                Long userId = score.getUserId();
+                ranked.add(userId);
+                long weeklyScore = (week.equals(score.getWeekStart()) ? score.getWeeklyScore() : 0)
+                        + pendingWeekly.getOrDefault(userId, 0L);
+
+                usernames.put(userId, score.getUsername());
+                allTime.set(userId, score.getAllTimeScore() + pendingAllTime.getOrDefault(userId, 0L));
+                if (weeklyScore > 0) {
+                    weekly.set(userId, weeklyScore);
+                } else {
+                    weekly.remove(userId);
+                }
+            }
+            for (Long userId : List.copyOf(usernames.keySet())) {
+                if (!ranked.contains(userId)) {
+                    removeUser(userId);
+                }
+            }
+        }
+    }
+
+    private LocalDate currentWeek() {
+        LocalDate week = startOfWeek(LocalDate.now(clock));
+        if (!week.equals(weekStart)) {
+            synchronized (weekly) {
+                if (!week.equals(weekStart)) {
+                    weekly.clear();
+                    weekStart = week;
+                }
+            }
+        }
+        return week;
+    }
+
+    private static LocalDate startOfWeek(LocalDate day) {
+        return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private LeaderboardEntryDTO toDTO(RankedScoreIndex.Entry entry) {
+        return LeaderboardEntryDTO.builder()
+                .rank(entry.rank())
+                .username(usernames.get(entry.userId()))
+                .score(entry.score())
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.wordle.service;
+
+import java.util.Locale;
+
+/**
+ * Cheap part-of-speech guess from word endings, used only to make quiz
+ * distractors look alike. Misclassifications just make a question easier.
+ */
+public enum PartOfSpeechHint {
+    VERB,
+    ADJECTIVE,
+    PHRASE,
+    OTHER;
+
+    private static final String[] POLISH_ADJECTIVE_ENDINGS = {"ny", "na", "ne", "wy", "wa", "we", "ki", "ka", "ty", "ta", "ski", "cki"};
+    private static final String[] UKRAINIAN_ADJECTIVE_ENDINGS = {"ий", "ій", "ая", "яя", "ова", "ева", "на", "не"};
+
+    public static PartOfSpeechHint ofPolish(String word) {
+        String normalized = word.trim().toLowerCase(Locale.ROOT);
+        if (normalized.endsWith("ć") || normalized.endsWith("ć się")) {
+            return VERB;
+        }
+        if (normalized.indexOf(' ') >= 0) {
+            return PHRASE;
+        }
+        return endsWithAny(normalized, POLISH_ADJECTIVE_ENDINGS) ? ADJECTIVE : OTHER;
+    }
+
+    public static PartOfSpeechHint ofUkrainian(String word) {
+        String normalized = word.trim().toLowerCase(Locale.ROOT);
+        if (normalized.endsWith("ти") || normalized.endsWith("тися") || normalized.endsWith("тись")
+                || normalized.endsWith("ть")) {
+            return VERB;
+        }
+        if (normalized.indexOf(' ') >= 0) {
+            return PHRASE;
+        }
+        return endsWithAny(normalized, UKRAINIAN_ADJECTIVE_ENDINGS) ? ADJECTIVE : OTHER;
+    }
+
+    private static boolean endsWithAny(String word, String[] endings) {
+        for (String ending : endings) {
+            if (word.length() > ending.length() + 1 && word.endsWith(ending)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.wordle.service;
+
+import com.example.wordle.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.time.Clock;
+import java.util.function.Supplier;
+
+/**
+ * Guards the database reads behind quiz questions. A read that fails with a
+ * database error or takes longer than {@code slow-call-ms} counts against the
+ * database; once {@code failure-threshold} of the last {@code window-size}
+ * reads did, the breaker opens and quiz requests are served from last known
+ * vocabulary snapshots without touching the database. After {@code open-ms} a
+ * single read is let through: if it is fine the breaker closes, otherwise it
+ * stays open for another period.
+ */
+@Slf4j
+@Component
+public class QuizReadCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final Clock clock;
+    private final long slowCallMs;
+    private final int failureThreshold;
+    private final long openMs;
+
+    // Outcomes of the last reads, true for failed or slow; guarded by this
+    private final boolean[] window;
+    private int windowNext;
+    private int windowSize;
+    private int windowFailures;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    private final Counter databaseReads;
+    private final Counter snapshotReads;
+    private final Counter openedCounter;
+
+    @Autowired
+    public QuizReadCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${quiz.circuit-breaker.slow-call-ms:1000}") long slowCallMs,
+            @Value("${quiz.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${quiz.circuit-breaker.failure-threshold:10}") int failureThreshold,
+            @Value("${quiz.circuit-breaker.open-ms:10000}") long openMs) {
+        this(meterRegistry, Clock.systemUTC(), slowCallMs, windowSize, failureThreshold, openMs);
+    }
+
+    QuizReadCircuitBreaker(MeterRegistry meterRegistry, Clock clock, long slowCallMs,
+                           int windowSize, int failureThreshold, long openMs) {
+        this.clock = clock;
+        this.slowCallMs = slowCallMs;
+        this.window = new boolean[windowSize];
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+
+        Gauge.builder("quiz.circuit_breaker.state", this, breaker -> breaker.state().ordinal())
+                .description("0 closed, 1 half open, 2 open")
+                .register(meterRegistry);
+        this.databaseReads = Counter.builder("quiz.reads").tag("source", "database").register(meterRegistry);
+        this.snapshotReads = Counter.builder("quiz.reads").tag("source", "snapshot").register(meterRegistry);
+        this.openedCounter = Counter.builder("quiz.circuit_breaker.opened").register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code read} unless the breaker is open, and falls back to
+     * {@code fallback} when it is or when the read fails with a database error.
+     * The fallback returns null when it has nothing to serve; the request then
+     * fails with the read's error, or with 503 if the read was skipped.
+     */
+    public <T> T call(Supplier<T> read, Supplier<T> fallback) {
+        if (!tryAcquire()) {
+            return fallback(fallback, null);
+        }
+        long start = clock.millis();
+        T result;
+        try {
+            result = read.get();
+        } catch (DataAccessException | TransactionException e) {
+            record(true);
+            return fallback(fallback, e);
+        } catch (RuntimeException e) {
+            // Any other error, such as a not-found, means the database answered
+            record(clock.millis() - start >= slowCallMs);
+            throw e;
+        }
+        record(clock.millis() - start >= slowCallMs);
+        databaseReads.increment();
+        return result;
+    }
+
+    /**
+     * Whether database work should be skipped right now. Unlike {@link #call},
+     * this does not let a trial read through once the open period is over.
+     */
+    public synchronized boolean isOpen() {
+        return state == State.OPEN && clock.millis() - openedAt < openMs;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private <T> T fallback(Supplier<T> fallback, RuntimeException readError) {
+        T value = fallback.get();
+        if (value == null) {
+            if (readError != null) {
+                throw readError;
+            }
+            throw new ServiceUnavailableException("Quiz is temporarily unavailable, try again shortly");
+        }
+        snapshotReads.increment();
+        return value;
+    }
+
+    private synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.millis() - openedAt < openMs) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    private synchronized void record(boolean failed) {
+        switch (state) {
+            case HALF_OPEN -> {
+                trialInFlight = false;
+                if (failed) {
+                    open();
+                } else {
+                    close();
+                }
+            }
+            case CLOSED -> {
+                if (windowSize == window.length) {
+                    windowFailures -= window[windowNext] ? 1 : 0;
+                } else {
+                    windowSize++;
+                }
+                window[windowNext] = failed;
+                windowFailures += failed ? 1 : 0;
+                windowNext = (windowNext + 1) % window.length;
+                if (windowFailures >= failureThreshold) {
+                    log.warn("Quiz reads degraded: {} of the last {} failed or took {} ms or more",
+                            windowFailures, windowSize, slowCallMs);
+                    open();
+                }
+            }
+            case OPEN -> {
+                // A read that started before the breaker opened
+            }
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.millis();
+        openedCounter.increment();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowNext = 0;
+        windowSize = 0;
+        windowFailures = 0;
+        log.info("Quiz reads recovered, serving from the database again");
+    }
+}
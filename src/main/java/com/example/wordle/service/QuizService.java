@@ -1,18 +1,25 @@
 package com.example.wordle.service;
 
+import com.example.wordle.dto.MultipleChoiceAnswerRequest;
+import com.example.wordle.dto.QuizAnswerRequest;
 import com.example.wordle.dto.QuizQuestionDTO;
 import com.example.wordle.dto.QuizResultDTO;
 import com.example.wordle.dto.SpellCheckRequest;
-import com.example.wordle.entity.User;
+import com.example.wordle.entity.Language;
+import com.example.wordle.entity.WordChange;
 import com.example.wordle.entity.WordPair;
 import com.example.wordle.exception.BadRequestException;
 import com.example.wordle.exception.NotFoundException;
-import com.example.wordle.repository.UserRepository;
+import com.example.wordle.exception.ServiceUnavailableException;
+import com.example.wordle.repository.WordCriteria;
 import com.example.wordle.repository.WordPairRepository;
+import com.example.wordle.repository.WordTermRepository;
+import com.example.wordle.repository.projection.WordText;
+import com.example.wordle.security.AuthenticatedUser;
+import com.example.wordle.security.QuizTokenSigner;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -22,103 +29,201 @@ import java.util.List;
 @RequiredArgsConstructor
 public class QuizService {
 
-    private final WordPairRepository wordPairRepository;
-    private final UserRepository userRepository;
+    // Exact matches come first, so a few results are enough to find the question word
+    private static final int SNAPSHOT_SEARCH_LIMIT = 10;
 
-    private User getCurrentUser() {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new NotFoundException("User not found"));
+    private final WordPairRepository wordPairRepository;
+    private final WordTermRepository wordTermRepository;
+    private final AnswerHistoryWriter answerHistoryWriter;
+    private final UserStatsService userStatsService;
+    private final LeaderboardService leaderboardService;
+    private final VocabularyCache vocabularyCache;
+    private final QuizTokenSigner quizTokenSigner;
+    private final AnswerCounterBuffer answerCounterBuffer;
+    private final QuizReadCircuitBreaker quizReadCircuitBreaker;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * While {@link QuizReadCircuitBreaker} is open, or when the read fails, the
+     * question comes from the last snapshot of the vocabulary this instance saw.
+     */
+    public QuizQuestionDTO getMultipleChoiceQuestion(Language questionLanguage) {
+        Long userId = AuthenticatedUser.current().getId();
+        VocabularySnapshot vocabulary = quizReadCircuitBreaker.call(
+                () -> vocabularyCache.get(userId),
+                () -> vocabularyCache.getLastKnown(userId));
+        return buildQuestion(userId, vocabulary, questionLanguage);
     }
 
-    public QuizQuestionDTO getMultipleChoiceQuestion(String questionLanguage) {
-        User user = getCurrentUser();
-
-        long totalWords = wordPairRepository.countByUserId(user.getId());
-        if (totalWords < 4) {
+    /**
+     * Builds a question from the user's vocabulary snapshot alone; shared by the
+     * blocking and the reactive read path.
+     */
+    public QuizQuestionDTO buildQuestion(Long userId, VocabularySnapshot vocabulary, Language questionLanguage) {
+        if (vocabulary.size() < 4) {
             throw new BadRequestException("Need at least 4 word pairs to generate a quiz");
         }
 
         // Get random correct word
-        WordPair correctWord = wordPairRepository.findRandomWordPairByUserId(user.getId())
-                .orElseThrow(() -> new NotFoundException("No words found"));
+        WordText correctWord = vocabulary.randomWord();
 
-        // Get 3 random distractors
-        List<WordPair> distractors = wordPairRepository.findRandomWordPairsExcluding(
-                user.getId(), correctWord.getId(), 3);
+        Language answerLanguage = questionLanguage.other();
+        String questionWord = correctWord.word(questionLanguage);
+        String correctAnswer = correctWord.word(answerLanguage);
 
+        // Get 3 distractors that look like the correct answer
+        List<String> distractors = vocabulary.pickDistractors(correctWord.id(), correctAnswer, answerLanguage, 3);
         if (distractors.size() < 3) {
             throw new BadRequestException("Not enough words to generate quiz options");
         }
 
         List<String> options = new ArrayList<>();
-        String questionWord;
-        String correctAnswer;
-
-        if ("UKRAINIAN".equalsIgnoreCase(questionLanguage)) {
-            questionWord = correctWord.getUkrainianWord();
-            correctAnswer = correctWord.getPolishWord();
-            options.add(correctAnswer);
-            distractors.forEach(wp -> options.add(wp.getPolishWord()));
-        } else {
-            questionWord = correctWord.getPolishWord();
-            correctAnswer = correctWord.getUkrainianWord();
-            options.add(correctAnswer);
-            distractors.forEach(wp -> options.add(wp.getUkrainianWord()));
-        }
+        options.add(correctAnswer);
+        options.addAll(distractors);
 
         Collections.shuffle(options);
 
         return QuizQuestionDTO.builder()
-                .questionWordId(correctWord.getId())
+                .questionWordId(correctWord.id())
                 .questionWord(questionWord)
-                .questionLanguage(questionLanguage.toUpperCase())
+                .questionLanguage(questionLanguage)
                 .options(options)
+                .token(quizTokenSigner.issue(userId, correctWord.id(), answerLanguage == Language.POLISH,
+                        options.indexOf(correctAnswer)))
+                .build();
+    }
+
+    /**
+     * Grades a multiple-choice answer from its signed question token alone;
+     * counters and stats are updated in the background.
+     */
+    public QuizResultDTO answerQuestion(QuizAnswerRequest request) {
+        AuthenticatedUser user = AuthenticatedUser.current();
+        QuizTokenSigner.QuizToken question = quizTokenSigner.redeem(request.getToken(), user.getId());
+
+        boolean isCorrect = request.getSelectedIndex() == question.correctIndex();
+
+        answerCounterBuffer.record(user.getId(), question.wordPairId(), isCorrect);
+        if (isCorrect) {
+            leaderboardService.recordCorrectAnswer(user.getId(), user.getUsername());
+        }
+        answerHistoryWriter.record(user.getId(), question.wordPairId(), isCorrect,
+                request.getAnswer(), request.getResponseTimeMs());
+
+        return QuizResultDTO.builder()
+                .correct(isCorrect)
+                .correctIndex(question.correctIndex())
+                .providedAnswer(request.getAnswer())
+                .message(isCorrect ? "Correct!" : "Incorrect. Try again!")
+                .build();
+    }
+
+    /**
+     * Grades a multiple-choice answer with one primary-key lookup scoped to the
+     * user; counters are incremented in the database rather than read-modify-written.
+     * While quiz reads are degraded it is graded from the vocabulary snapshot instead.
+     */
+    public QuizResultDTO answerMultipleChoice(MultipleChoiceAnswerRequest request) {
+        AuthenticatedUser user = AuthenticatedUser.current();
+        if (quizReadCircuitBreaker.isOpen()) {
+            WordText word = lastKnownVocabulary(user.getId()).find(request.getQuestionWordId());
+            if (word == null) {
+                throw new NotFoundException("Word not found");
+            }
+            return grade(user, word, request.getQuestionLanguage().other(),
+                    request.getAnswer(), request.getResponseTimeMs());
+        }
+        return transactionTemplate.execute(status -> answerMultipleChoice(user, request));
+    }
+
+    private QuizResultDTO answerMultipleChoice(AuthenticatedUser user, MultipleChoiceAnswerRequest request) {
+        WordPair wordPair = wordPairRepository.findByIdAndUserId(request.getQuestionWordId(), user.getId())
+                .orElseThrow(() -> new NotFoundException("Word not found"));
+
+        String correctAnswer = wordPair.getWord(request.getQuestionLanguage().other());
+        boolean isCorrect = normalizeString(request.getAnswer()).equals(normalizeString(correctAnswer));
+
+        wordPairRepository.addAnswerCounts(wordPair.getId(), isCorrect ? 1 : 0, isCorrect ? 0 : 1);
+        wordPairRepository.logChanges(user.getId(), WordCriteria.byId(wordPair.getId()), WordChange.Kind.UPDATED);
+        userStatsService.recordAnswer(user.getId(), wordPair.getId(), isCorrect,
+                wordPair.getCorrectCount() + (isCorrect ? 1 : 0),
+                wordPair.getIncorrectCount() + (isCorrect ? 0 : 1));
+        if (isCorrect) {
+            leaderboardService.recordCorrectAnswer(user.getId(), user.getUsername());
+        }
+        answerHistoryWriter.record(user.getId(), wordPair.getId(), isCorrect,
+                request.getAnswer(), request.getResponseTimeMs());
+
+        return QuizResultDTO.builder()
+                .correct(isCorrect)
+                .correctAnswer(correctAnswer)
+                .providedAnswer(request.getAnswer())
+                .message(isCorrect ? "Correct!" : "Incorrect. Try again!")
                 .build();
     }
 
-    @Transactional
+    /**
+     * Grades a typed answer. The pair is found from the question word through the
+     * term index, so only matching pairs are read, whichever the question language.
+     * While quiz reads are degraded, or when that read fails, it is found in the
+     * vocabulary snapshot instead. Counters and stats go through the answer buffer
+     * either way, so grading does not wait on a write.
+     */
     public QuizResultDTO checkSpelling(SpellCheckRequest request) {
-        User user = getCurrentUser();
-
-        String normalizedQuestion = normalizeString(request.getQuestionWord());
-        String normalizedAnswer = normalizeString(request.getAnswer());
-
-        // Find the word pair based on question language
-        List<WordPair> userWords = wordPairRepository.findByUserId(user.getId());
-
-        WordPair wordPair = userWords.stream()
-                .filter(wp -> {
-                    if ("UKRAINIAN".equalsIgnoreCase(request.getQuestionLanguage())) {
-                        return normalizeString(wp.getUkrainianWord()).equals(normalizedQuestion);
-                    } else {
-                        return normalizeString(wp.getPolishWord()).equals(normalizedQuestion);
-                    }
-                })
+        AuthenticatedUser user = AuthenticatedUser.current();
+        Language questionLanguage = request.getQuestionLanguage();
+        String questionWord = WordPair.normalize(request.getQuestionWord());
+        WordText word = quizReadCircuitBreaker.call(
+                () -> wordTermRepository.findPairsByTerm(user.getId(), questionLanguage, questionWord).stream()
+                        .findFirst()
+                        .map(pair -> new WordText(pair.getId(), pair.getPolishWord(), pair.getUkrainianWord()))
+                        .orElseThrow(() -> new NotFoundException("Word not found")),
+                () -> findInLastKnownVocabulary(user.getId(), questionLanguage, questionWord));
+        return grade(user, word, questionLanguage.other(), request.getAnswer(), request.getResponseTimeMs());
+    }
+
+    /**
+     * @return null when this instance has no snapshot of the user's vocabulary
+     */
+    private WordText findInLastKnownVocabulary(Long userId, Language questionLanguage, String questionWord) {
+        VocabularySnapshot vocabulary = vocabularyCache.getLastKnown(userId);
+        if (vocabulary == null) {
+            return null;
+        }
+        return vocabulary.search(questionWord, SNAPSHOT_SEARCH_LIMIT).stream()
+                .filter(candidate -> WordPair.normalize(candidate.word(questionLanguage)).equals(questionWord))
                 .findFirst()
                 .orElseThrow(() -> new NotFoundException("Word not found"));
+    }
 
-        String correctAnswer;
-        if ("UKRAINIAN".equalsIgnoreCase(request.getQuestionLanguage())) {
-            correctAnswer = wordPair.getPolishWord();
-        } else {
-            correctAnswer = wordPair.getUkrainianWord();
+    private VocabularySnapshot lastKnownVocabulary(Long userId) {
+        VocabularySnapshot vocabulary = vocabularyCache.getLastKnown(userId);
+        if (vocabulary == null) {
+            throw new ServiceUnavailableException("Quiz is temporarily unavailable, try again shortly");
         }
+        return vocabulary;
+    }
 
-        boolean isCorrect = normalizedAnswer.equals(normalizeString(correctAnswer));
-
-        // Update statistics
+    /**
+     * Grades an answer without writing to the database: counters and stats go
+     * through {@link AnswerCounterBuffer}, which applies them in the background
+     * and holds them while the database is unavailable.
+     */
+    private QuizResultDTO grade(AuthenticatedUser user, WordText word, Language answerLanguage,
+                                String answer, Long responseTimeMs) {
+        String correctAnswer = word.word(answerLanguage);
+        boolean isCorrect = normalizeString(answer).equals(normalizeString(correctAnswer));
+
+        answerCounterBuffer.record(user.getId(), word.id(), isCorrect);
         if (isCorrect) {
-            wordPair.setCorrectCount(wordPair.getCorrectCount() + 1);
-        } else {
-            wordPair.setIncorrectCount(wordPair.getIncorrectCount() + 1);
+            leaderboardService.recordCorrectAnswer(user.getId(), user.getUsername());
         }
-        wordPairRepository.save(wordPair);
+        answerHistoryWriter.record(user.getId(), word.id(), isCorrect, answer, responseTimeMs);
 
         return QuizResultDTO.builder()
                 .correct(isCorrect)
                 .correctAnswer(correctAnswer)
-                .providedAnswer(request.getAnswer())
+                .providedAnswer(answer)
                 .message(isCorrect ? "Correct!" : "Incorrect. Try again!")
                 .build();
     }
@@ -0,0 +1,242 @@
+package com.example.wordle.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Indexable skip list of user scores, ordered by score descending and user id ascending.
+ * Every forward link remembers how many nodes it skips, which makes rank lookups
+ * O(log n) in addition to O(log n) updates. Readers share a read lock, writers are
+ * serialized by the write lock.
+ */
+public class RankedScoreIndex {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    public record Entry(long userId, long score, long rank) {
+    }
+
+    private static final class Node {
+        final long userId;
+        final long score;
+        final Node[] next;
+        final long[] span;
+
+        Node(long userId, long score, int level) {
+            this.userId = userId;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new long[level];
+        }
+    }
+
+    private final Node head = new Node(0, 0, MAX_LEVEL);
+    private final Map<Long, Long> scores = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int level = 1;
+    private long size;
+
+    /**
+     * Adds {@code delta} to the user's score (starting from zero) and returns the new score.
+     */
+    public long add(long userId, long delta) {
+        lock.writeLock().lock();
+        try {
+            Long current = scores.get(userId);
+            long updated = (current == null ? 0 : current) + delta;
+            if (current != null) {
+                delete(userId, current);
+            }
+            insert(userId, updated);
+            scores.put(userId, updated);
+            return updated;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void set(long userId, long score) {
+        lock.writeLock().lock();
+        try {
+            Long current = scores.get(userId);
+            if (current != null) {
+                delete(userId, current);
+            }
+            insert(userId, score);
+            scores.put(userId, score);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long userId) {
+        lock.writeLock().lock();
+        try {
+            Long current = scores.remove(userId);
+            if (current == null) {
+                return false;
+            }
+            delete(userId, current);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < MAX_LEVEL; i++) {
+                head.next[i] = null;
+                head.span[i] = 0;
+            }
+            scores.clear();
+            level = 1;
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the user's 1-based rank and score, or {@code null} if the user has no score.
+     */
+    public Entry find(long userId) {
+        lock.readLock().lock();
+        try {
+            Long score = scores.get(userId);
+            if (score == null) {
+                return null;
+            }
+            long rank = 0;
+            Node x = head;
+            for (int i = level - 1; i >= 0; i--) {
+                while (x.next[i] != null && !after(x.next[i], userId, score)) {
+                    rank += x.span[i];
+                    x = x.next[i];
+                }
+                if (x != head && x.userId == userId) {
+                    return new Entry(userId, score, rank);
+                }
+            }
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Entry> top(int limit) {
+        lock.readLock().lock();
+        try {
+            List<Entry> entries = new ArrayList<>((int) Math.min(limit, size));
+            Node x = head.next[0];
+            long rank = 1;
+            while (x != null && entries.size() < limit) {
+                entries.add(new Entry(x.userId, x.score, rank++));
+                x = x.next[0];
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // True when the node sorts strictly before (userId, score)
+    private static boolean before(Node node, long userId, long score) {
+        return node.score > score || (node.score == score && node.userId < userId);
+    }
+
+    // True when the node sorts strictly after (userId, score)
+    private static boolean after(Node node, long userId, long score) {
+        return node.score < score || (node.score == score && node.userId > userId);
+    }
+
+    private void insert(long userId, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        long[] rank = new long[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && before(x.next[i], userId, score)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                update[i].span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        x = new Node(userId, score, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            x.next[i] = update[i].next[i];
+            update[i].next[i] = x;
+            x.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    private void delete(long userId, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && before(x.next[i], userId, score)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        x = x.next[0];
+        if (x == null || x.userId != userId || x.score != score) {
+            throw new IllegalStateException("Score index is out of sync for user " + userId);
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == x) {
+                update[i].span[i] += x.span[i] - 1;
+                update[i].next[i] = x.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+    }
+
+    private static int randomLevel() {
+        int nodeLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (nodeLevel < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.AuthResponse;
+import com.example.wordle.entity.RefreshToken;
+import com.example.wordle.entity.TokenRevocation;
+import com.example.wordle.entity.User;
+import com.example.wordle.exception.UnauthorizedException;
+import com.example.wordle.repository.RefreshTokenRepository;
+import com.example.wordle.repository.UserRepository;
+import com.example.wordle.security.JwtUtils;
+import com.example.wordle.security.TokenRevocationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Issues short-lived access tokens together with rotating refresh tokens, and
+ * revokes them. Refresh tokens are checked against {@code refresh_tokens} on
+ * every refresh; access tokens only against {@link TokenRevocationRegistry}.
+ */
+@Slf4j
+@Service
+public class TokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int REFRESH_TOKEN_BYTES = 32;
+    private static final int CLEANUP_CHUNK_SIZE = 5000;
+    // Revocation log rows are kept this long past the access-token lifetime, for instances that start late
+    private static final Duration REVOCATION_RETENTION_MARGIN = Duration.ofHours(1);
+
+    private static final String BUMP_VERSION_SQL = "UPDATE users SET token_version = token_version + 1 WHERE id = ?";
+    private static final String VERSION_SQL = "SELECT token_version FROM users WHERE id = ?";
+    private static final String LOG_REVOCATION_SQL =
+            "INSERT INTO token_revocations (user_id, token_version, revoked_at) VALUES (?, ?, ?)";
+    private static final String DELETE_EXPIRED_REFRESH_TOKENS_SQL = "DELETE FROM refresh_tokens WHERE id IN ("
+            + "SELECT id FROM refresh_tokens WHERE expires_at < ? LIMIT ?)";
+    private static final String DELETE_EXPIRED_REVOCATIONS_SQL = "DELETE FROM token_revocations WHERE id IN ("
+            + "SELECT id FROM token_revocations WHERE revoked_at < ? LIMIT ?)";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JwtUtils jwtUtils;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
+
+    public TokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            UserRepository userRepository,
+            JdbcTemplate jdbcTemplate,
+            JwtUtils jwtUtils,
+            TokenRevocationRegistry tokenRevocationRegistry,
+            @Value("${jwt.expiration}") long accessTokenTtlMs,
+            @Value("${jwt.refresh-expiration}") long refreshTokenTtlMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.jwtUtils = jwtUtils;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.accessTokenTtl = Duration.ofMillis(accessTokenTtlMs);
+        this.refreshTokenTtl = Duration.ofMillis(refreshTokenTtlMs);
+    }
+
+    /**
+     * Issues an access token and the first refresh token of a new family.
+     */
+    public AuthResponse issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and the next refresh
+     * token of its family. A token that was already exchanged means a copy is
+     * in use, so its whole family is deleted.
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public AuthResponse refresh(String refreshToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+        LocalDateTime now = TokenRevocation.now();
+        if (token.getExpiresAt().isBefore(now)) {
+            throw new UnauthorizedException("Refresh token expired");
+        }
+        if (refreshTokenRepository.markUsed(token.getId(), now) == 0) {
+            refreshTokenRepository.deleteByFamilyId(token.getFamilyId());
+            log.warn("Refresh token of user {} was used twice, revoked its family", token.getUserId());
+            throw new UnauthorizedException("Refresh token was already used");
+        }
+
+        User user = userRepository.findById(token.getUserId())
+                .filter(candidate -> candidate.getDeletedAt() == null)
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+        return issue(user, token.getFamilyId());
+    }
+
+    /**
+     * Ends the session a refresh token belongs to. Its access tokens stay
+     * valid until they expire.
+     */
+    @Transactional
+    public void logout(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .ifPresent(token -> refreshTokenRepository.deleteByFamilyId(token.getFamilyId()));
+    }
+
+    /**
+     * Revokes every access and refresh token of the user, on all instances
+     * within {@code jwt.revocation.sync-interval-ms}.
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        jdbcTemplate.update(BUMP_VERSION_SQL, userId);
+        Integer version = jdbcTemplate.queryForObject(VERSION_SQL, Integer.class, userId);
+        LocalDateTime now = TokenRevocation.now();
+        jdbcTemplate.update(LOG_REVOCATION_SQL, userId, version, Timestamp.valueOf(now));
+        refreshTokenRepository.deleteByUserId(userId);
+        tokenRevocationRegistry.revokeAfterCommit(userId, version, now);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        try {
+            LocalDateTime now = TokenRevocation.now();
+            jdbcTemplate.update(DELETE_EXPIRED_REFRESH_TOKENS_SQL, Timestamp.valueOf(now), CLEANUP_CHUNK_SIZE);
+            jdbcTemplate.update(DELETE_EXPIRED_REVOCATIONS_SQL,
+                    Timestamp.valueOf(now.minus(accessTokenTtl).minus(REVOCATION_RETENTION_MARGIN)), CLEANUP_CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("Token cleanup failed, will retry", e);
+        }
+    }
+
+    private AuthResponse issue(User user, String familyId) {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = TokenRevocation.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(user.getId())
+                .familyId(familyId)
+                .tokenHash(hash(refreshToken))
+                .createdAt(now)
+                .expiresAt(now.plus(refreshTokenTtl))
+                .build());
+
+        return AuthResponse.builder()
+                .token(jwtUtils.generateAccessToken(user.getId(), user.getUsername(), user.getTokenVersion()))
+                .refreshToken(refreshToken)
+                .expiresIn(jwtUtils.getExpirationSeconds())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .build();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
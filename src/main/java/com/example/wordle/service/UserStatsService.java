@@ -0,0 +1,149 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.DailyAccuracyDTO;
+import com.example.wordle.dto.UserStatsDTO;
+import com.example.wordle.dto.WordPairDTO;
+import com.example.wordle.entity.DailyStat;
+import com.example.wordle.entity.UserStats;
+import com.example.wordle.entity.WeakWord;
+import com.example.wordle.exception.NotFoundException;
+import com.example.wordle.repository.UserStatsRepository;
+import com.example.wordle.repository.WordPairRepository;
+import com.example.wordle.repository.projection.WordPairView;
+import com.example.wordle.security.AuthenticatedUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+    private final WordPairRepository wordPairRepository;
+
+    /**
+     * Creates the stats row of a new account, so later writes only update it.
+     */
+    @Transactional
+    public void createStats(Long userId) {
+        userStatsRepository.insertIfAbsent(userId);
+    }
+
+    /**
+     * Applies one answer to the user's aggregate. Runs inside the caller's transaction
+     * and locks the stats row, so concurrent answers of the same user are serialized.
+     */
+    @Transactional
+    public void recordAnswer(Long userId, Long wordPairId, boolean correct,
+                             int wordCorrectCount, int wordIncorrectCount) {
+        UserStats stats = userStatsRepository.findForUpdate(userId).orElse(null);
+        if (stats == null) {
+            // An account whose row was never seeded; a concurrent answer may create it first
+            userStatsRepository.insertIfAbsent(userId);
+            stats = userStatsRepository.findForUpdate(userId)
+                    .orElseThrow(() -> new NotFoundException("User not found"));
+        }
+        stats.recordAnswer(wordPairId, correct, wordCorrectCount, wordIncorrectCount, LocalDate.now());
+        userStatsRepository.save(stats);
+    }
+
+    @Transactional
+    public void recordWordsAdded(Long userId, long count) {
+        if (count == 0) {
+            return;
+        }
+        // No row yet: seed the total once from word_pairs, which already includes this write.
+        // If another write created the row first, its count did not see these words.
+        if (userStatsRepository.addWords(userId, count) == 0 && userStatsRepository.insertIfAbsent(userId) == 0) {
+            userStatsRepository.addWords(userId, count);
+        }
+    }
+
+    @Transactional
+    public void recordWordsRemoved(Long userId, long count) {
+        recordWordsAdded(userId, -count);
+    }
+
+    @Transactional(readOnly = true)
+    public UserStatsDTO getCurrentUserStats() {
+        Long userId = AuthenticatedUser.current().getId();
+        // Rows are created at signup and seeded for older accounts by migration 051,
+        // so a missing one means nothing was recorded yet
+        UserStats stats = userStatsRepository.findById(userId)
+                .orElseGet(() -> UserStats.builder().userId(userId).build());
+        return toDTO(stats);
+    }
+
+    private UserStatsDTO toDTO(UserStats stats) {
+        List<DailyAccuracyDTO> daily = stats.getDailyStats().stream()
+                .map(this::toDailyDTO)
+                .collect(Collectors.toList());
+
+        return UserStatsDTO.builder()
+                .totalWords(stats.getTotalWords())
+                .totalAnswers(stats.getTotalAnswers())
+                .correctAnswers(stats.getCorrectAnswers())
+                .accuracy(accuracy(stats.getCorrectAnswers(), stats.getTotalAnswers()))
+                .currentStreak(stats.getCurrentStreak())
+                .bestStreak(stats.getBestStreak())
+                .dayStreak(currentDayStreak(stats))
+                .daily(daily)
+                .weakestWords(weakestWords(stats))
+                .build();
+    }
+
+    private DailyAccuracyDTO toDailyDTO(DailyStat day) {
+        return DailyAccuracyDTO.builder()
+                .date(day.day())
+                .answers(day.answers())
+                .correct(day.correct())
+                .accuracy(accuracy(day.correct(), day.answers()))
+                .build();
+    }
+
+    // Only the bounded top-K ids are resolved, never the whole vocabulary
+    private List<WordPairDTO> weakestWords(UserStats stats) {
+        List<WeakWord> weakWords = stats.getWeakWords();
+        if (weakWords.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, WordPairView> pairs = wordPairRepository.findViewsByIdIn(
+                        weakWords.stream().map(WeakWord::wordPairId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(WordPairView::id, Function.identity()));
+
+        return weakWords.stream()
+                .filter(w -> pairs.containsKey(w.wordPairId()))
+                .map(w -> {
+                    WordPairView pair = pairs.get(w.wordPairId());
+                    return WordPairDTO.builder()
+                            .id(pair.id())
+                            .polishWord(pair.polishWord())
+                            .ukrainianWord(pair.ukrainianWord())
+                            .correctCount(w.correctCount())
+                            .incorrectCount(w.incorrectCount())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    private int currentDayStreak(UserStats stats) {
+        LocalDate last = stats.getLastActiveDate();
+        if (last == null || last.isBefore(LocalDate.now().minusDays(1))) {
+            return 0;
+        }
+        return stats.getDayStreak();
+    }
+
+    private static double accuracy(long correct, long total) {
+        return total == 0 ? 0.0 : (double) correct / total;
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.wordle.service;
+
+import com.example.wordle.config.ReadWriteRoutingDataSource;
+import com.example.wordle.repository.WordPairRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user {@link VocabularySnapshot}s, loaded on first use and evicted after
+ * every vocabulary write. Loads run outside any map lock, one per user at a
+ * time: concurrent misses wait for the running load. An eviction issued while
+ * a load is running discards that load, so its result is returned to the
+ * requests that were already waiting but never cached.
+ * The last snapshot loaded for a user outlives evictions, for serving quizzes
+ * while the database is unavailable (see {@link QuizReadCircuitBreaker}).
+ * Snapshots are read from the primary: one read from a lagging replica right
+ * after an eviction would stay cached until the user's next write.
+ */
+@Component
+@RequiredArgsConstructor
+public class VocabularyCache implements InvalidatableCache {
+
+    private final WordPairRepository wordPairRepository;
+    private final CacheInvalidationNotifier invalidationNotifier;
+    private final Map<Long, VocabularySnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Long, VocabularySnapshot> lastKnown = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<VocabularySnapshot>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${vocabulary-cache.max-users:10000}")
+    private int maxUsers;
+
+    public VocabularySnapshot get(Long userId) {
+        VocabularySnapshot snapshot = snapshots.get(userId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        CompletableFuture<VocabularySnapshot> load = new CompletableFuture<>();
+        CompletableFuture<VocabularySnapshot> running = loading.putIfAbsent(userId, load);
+        if (running != null) {
+            return join(running);
+        }
+        try {
+            VocabularySnapshot loaded = VocabularySnapshot.of(ReadWriteRoutingDataSource.readFromPrimary(
+                    () -> wordPairRepository.findTextsByUserId(userId)));
+            // Cached only if no eviction removed this load in the meantime
+            loading.computeIfPresent(userId, (id, current) -> {
+                if (current != load) {
+                    return current;
+                }
+                makeRoom(snapshots);
+                snapshots.put(id, loaded);
+                return null;
+            });
+            remember(userId, loaded);
+            load.complete(loaded);
+            return loaded;
+        } catch (Throwable e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(userId, load);
+        }
+    }
+
+    private static VocabularySnapshot join(CompletableFuture<VocabularySnapshot> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public VocabularySnapshot getIfPresent(Long userId) {
+        return snapshots.get(userId);
+    }
+
+    /**
+     * The cached snapshot, or else the last one loaded before it was evicted,
+     * which may miss recent writes; null if none was loaded on this instance.
+     */
+    public VocabularySnapshot getLastKnown(Long userId) {
+        VocabularySnapshot snapshot = snapshots.get(userId);
+        return snapshot != null ? snapshot : lastKnown.get(userId);
+    }
+
+    /**
+     * Value to pass to {@link #cacheIfUnchanged} by callers that load snapshots
+     * themselves; read it before loading.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a snapshot loaded outside this class unless something was evicted
+     * since {@code loadedAtGeneration}, in which case it may already be stale.
+     * Returns the cached snapshot, or the given one if it was not cached.
+     */
+    public VocabularySnapshot cacheIfUnchanged(Long userId, VocabularySnapshot snapshot, long loadedAtGeneration) {
+        makeRoom(snapshots);
+        VocabularySnapshot cached = snapshots.compute(userId, (id, current) -> {
+            if (current != null) {
+                return current;
+            }
+            return generation.get() == loadedAtGeneration ? snapshot : null;
+        });
+        remember(userId, cached != null ? cached : snapshot);
+        return cached != null ? cached : snapshot;
+    }
+
+    @Override
+    public String cacheName() {
+        return "vocabulary";
+    }
+
+    /**
+     * Evicts once the current transaction commits, so a concurrent reload cannot
+     * cache the state from before the write, and tells the other instances to
+     * do the same.
+     */
+    public void evictAfterCommit(Long userId) {
+        invalidationNotifier.publish(this, userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    @Override
+    public void evict(Long userId) {
+        loading.remove(userId);
+        snapshots.compute(userId, (id, current) -> {
+            generation.incrementAndGet();
+            return null;
+        });
+    }
+
+    @Override
+    public void evictAll() {
+        generation.incrementAndGet();
+        loading.clear();
+        snapshots.clear();
+    }
+
+    private void remember(Long userId, VocabularySnapshot snapshot) {
+        if (lastKnown.get(userId) != snapshot) {
+            makeRoom(lastKnown);
+            lastKnown.put(userId, snapshot);
+        }
+    }
+
+    private void makeRoom(Map<Long, VocabularySnapshot> cache) {
+        if (cache.size() >= maxUsers) {
+            Iterator<Long> keys = cache.keySet().iterator();
+            if (keys.hasNext()) {
+                cache.remove(keys.next());
+            }
+        }
+    }
+
+    boolean isCached(Long userId) {
+        return snapshots.containsKey(userId);
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.wordle.service;
+
+import com.example.wordle.entity.WordPair;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Prefix and substring index over the normalized Polish and Ukrainian forms of
+ * one vocabulary. Prefixes are found by binary search over the sorted forms;
+ * substrings by scanning the shortest posting list among the query's bigrams
+ * or trigrams, and single characters by scanning all forms. Only the best
+ * {@code limit} matches are kept while scanning, so broad queries do not sort
+ * the whole vocabulary.
+ * <p>
+ * Entries are word index * 2 + language (0 Polish, 1 Ukrainian).
+ */
+final class VocabularySearchIndex {
+
+    private static final long RANK_EXACT = 0;
+    private static final long RANK_PREFIX = 1;
+    private static final long RANK_SUBSTRING = 2;
+
+    private final String[] keys;
+    private final int[] sortedEntries;
+    private final Map<Long, Postings> grams = new HashMap<>();
+
+    private static final class Postings {
+        private int[] entries = new int[4];
+        private int size;
+
+        private void add(int entry) {
+            if (size > 0 && entries[size - 1] == entry) {
+                return;
+            }
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = entry;
+        }
+    }
+
+    /**
+     * The {@code limit} lowest scores seen, at most one per word. A score packs
+     * rank, form length and word index, so comparing scores orders matches.
+     */
+    private static final class TopMatches {
+        private final long[] scores;
+        private int size;
+        private int worst;
+
+        private TopMatches(int limit) {
+            this.scores = new long[limit];
+        }
+
+        private boolean isFull() {
+            return size == scores.length;
+        }
+
+        private void offer(long score) {
+            if (isFull() && score >= scores[worst]) {
+                return;
+            }
+            int word = (int) score;
+            for (int i = 0; i < size; i++) {
+                if ((int) scores[i] == word) {
+                    if (score < scores[i]) {
+                        scores[i] = score;
+                        findWorst();
+                    }
+                    return;
+                }
+            }
+            if (isFull()) {
+                scores[worst] = score;
+            } else {
+                scores[size++] = score;
+            }
+            findWorst();
+        }
+
+        private void findWorst() {
+            worst = 0;
+            for (int i = 1; i < size; i++) {
+                if (scores[i] > scores[worst]) {
+                    worst = i;
+                }
+            }
+        }
+
+        private int[] words() {
+            long[] sorted = Arrays.copyOf(scores, size);
+            Arrays.sort(sorted);
+            int[] words = new int[size];
+            for (int i = 0; i < size; i++) {
+                words[i] = (int) sorted[i];
+            }
+            return words;
+        }
+    }
+
+    VocabularySearchIndex(String[] polishWords, String[] ukrainianWords) {
+        int size = polishWords.length;
+        keys = new String[size * 2];
+        for (int i = 0; i < size; i++) {
+            keys[i * 2] = WordPair.normalize(polishWords[i]);
+            keys[i * 2 + 1] = WordPair.normalize(ukrainianWords[i]);
+        }
+
+        sortedEntries = IntStream.range(0, keys.length)
+                .boxed()
+                .sorted((a, b) -> keys[a].compareTo(keys[b]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        for (int entry = 0; entry < keys.length; entry++) {
+            String key = keys[entry];
+            for (int i = 0; i + 2 <= key.length(); i++) {
+                grams.computeIfAbsent(gram(key, i, 2), g -> new Postings()).add(entry);
+                if (i + 3 <= key.length()) {
+                    grams.computeIfAbsent(gram(key, i, 3), g -> new Postings()).add(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Word indexes matching the normalized query, best first: exact matches,
+     * then prefixes, then other substrings, shorter forms first within each.
+     */
+    int[] search(String query, int limit) {
+        TopMatches top = new TopMatches(limit);
+
+        for (int i = lowerBound(query); i < sortedEntries.length && keys[sortedEntries[i]].startsWith(query); i++) {
+            int entry = sortedEntries[i];
+            top.offer(score(entry, keys[entry].length() == query.length() ? RANK_EXACT : RANK_PREFIX));
+        }
+
+        // Substring matches rank below every prefix match, so they cannot displace a full page of those
+        if (!top.isFull()) {
+            if (query.length() >= 2) {
+                Postings candidates = rarestGram(query);
+                for (int i = 0; candidates != null && i < candidates.size; i++) {
+                    offerSubstring(top, candidates.entries[i], query);
+                }
+            } else {
+                for (int entry = 0; entry < keys.length; entry++) {
+                    offerSubstring(top, entry, query);
+                }
+            }
+        }
+
+        return top.words();
+    }
+
+    private void offerSubstring(TopMatches top, int entry, String query) {
+        if (keys[entry].indexOf(query, 1) > 0) {
+            top.offer(score(entry, RANK_SUBSTRING));
+        }
+    }
+
+    private long score(int entry, long rank) {
+        long length = Math.min(keys[entry].length(), 0xFFFF);
+        return (rank << 48) | (length << 32) | (entry >> 1);
+    }
+
+    private Postings rarestGram(String query) {
+        int length = Math.min(query.length(), 3);
+        Postings rarest = null;
+        for (int i = 0; i + length <= query.length(); i++) {
+            Postings postings = grams.get(gram(query, i, length));
+            if (postings == null) {
+                return null;
+            }
+            if (rarest == null || postings.size < rarest.size) {
+                rarest = postings;
+            }
+        }
+        return rarest;
+    }
+
+    private int lowerBound(String query) {
+        int low = 0;
+        int high = sortedEntries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[sortedEntries[mid]].compareTo(query) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Bigrams and trigrams share one map; the top bits keep them apart
+    private static long gram(String key, int start, int length) {
+        long gram = ((long) length << 48) | ((long) key.charAt(start) << 32) | ((long) key.charAt(start + 1) << 16);
+        return length == 3 ? gram | key.charAt(start + 2) : gram;
+    }
+}
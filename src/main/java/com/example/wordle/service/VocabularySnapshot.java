@@ -0,0 +1,99 @@
+package com.example.wordle.service;
+
+import com.example.wordle.entity.Language;
+import com.example.wordle.repository.projection.WordText;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable in-memory copy of one user's vocabulary, with distractor indexes for
+ * both answer languages. Built by {@link VocabularyCache}.
+ */
+public final class VocabularySnapshot {
+
+    private final long[] ids;
+    private final String[] polishWords;
+    private final String[] ukrainianWords;
+    private final DistractorIndex polishDistractors;
+    private final DistractorIndex ukrainianDistractors;
+    // Built on the first search; most snapshots only serve quiz questions
+    private volatile VocabularySearchIndex searchIndex;
+
+    private VocabularySnapshot(long[] ids, String[] polishWords, String[] ukrainianWords) {
+        this.ids = ids;
+        this.polishWords = polishWords;
+        this.ukrainianWords = ukrainianWords;
+        this.polishDistractors = new DistractorIndex(ids, polishWords, PartOfSpeechHint::ofPolish);
+        this.ukrainianDistractors = new DistractorIndex(ids, ukrainianWords, PartOfSpeechHint::ofUkrainian);
+    }
+
+    public static VocabularySnapshot of(List<WordText> words) {
+        int size = words.size();
+        long[] ids = new long[size];
+        String[] polishWords = new String[size];
+        String[] ukrainianWords = new String[size];
+        for (int i = 0; i < size; i++) {
+            WordText word = words.get(i);
+            ids[i] = word.id();
+            polishWords[i] = word.polishWord();
+            ukrainianWords[i] = word.ukrainianWord();
+        }
+        return new VocabularySnapshot(ids, polishWords, ukrainianWords);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Picks the word to ask about, uniformly. The snapshot is evicted after every
+     * vocabulary write, so this sees the same words a database query would.
+     */
+    public WordText randomWord() {
+        int index = ThreadLocalRandom.current().nextInt(ids.length);
+        return new WordText(ids[index], polishWords[index], ukrainianWords[index]);
+    }
+
+    /**
+     * The word with the given id, or null; a linear scan, for the rare reads
+     * served from a snapshot instead of the database.
+     */
+    public WordText find(long id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return new WordText(ids[i], polishWords[i], ukrainianWords[i]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Draws distractors that resemble {@code correctAnswer}, in the answer's language.
+     */
+    public List<String> pickDistractors(long questionWordId, String correctAnswer,
+                                        Language answerLanguage, int count) {
+        DistractorIndex index = answerLanguage == Language.POLISH ? polishDistractors : ukrainianDistractors;
+        return index.pick(correctAnswer, questionWordId, count);
+    }
+
+    /**
+     * Words whose normalized Polish or Ukrainian form equals, starts with or
+     * contains {@code normalizedQuery}, in that order of preference.
+     */
+    public List<WordText> search(String normalizedQuery, int limit) {
+        VocabularySearchIndex index = searchIndex;
+        if (index == null) {
+            // Concurrent first searches may both build it; either result is equivalent
+            index = new VocabularySearchIndex(polishWords, ukrainianWords);
+            searchIndex = index;
+        }
+        int[] matches = index.search(normalizedQuery, limit);
+        List<WordText> words = new ArrayList<>(matches.length);
+        for (int i : matches) {
+            words.add(new WordText(ids[i], polishWords[i], ukrainianWords[i]));
+        }
+        return words;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.wordle.service;
+
+import com.example.wordle.entity.WordChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+
+/**
+ * Drops {@code word_changes} rows older than the retention, one bounded chunk
+ * per run. Cursors from before then get a full snapshot from
+ * {@link WordSyncService}, so nothing still needs these rows.
+ */
+@Slf4j
+@Component
+public class WordChangeCompactor {
+
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM word_changes WHERE id IN ("
+            + "SELECT id FROM word_changes WHERE changed_at < ? LIMIT ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+    private final int chunkSize;
+    private final Counter expiredCounter;
+
+    public WordChangeCompactor(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${word-changes.retention-days:30}") long retentionDays,
+            @Value("${word-changes.compaction-chunk-size:5000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retention = Duration.ofDays(retentionDays);
+        this.chunkSize = chunkSize;
+        this.expiredCounter = Counter.builder("word_changes.expired").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${word-changes.compaction-interval-ms:60000}")
+    public void compact() {
+        try {
+            deleteExpiredChunk();
+        } catch (RuntimeException e) {
+            log.warn("Word change compaction failed, will retry", e);
+        }
+    }
+
+    /**
+     * @return the number of rows deleted
+     */
+    public int deleteExpiredChunk() {
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL,
+                Timestamp.valueOf(WordChange.now().minus(retention)), chunkSize);
+        expiredCounter.increment(deleted);
+        return deleted;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.ExportFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams a user's whole vocabulary straight from a forward-only cursor to an
+ * output stream, one row at a time, so memory use does not depend on the
+ * number of words. The read-only transaction keeps auto-commit off, which
+ * PostgreSQL needs to honour the fetch size instead of loading the full result.
+ */
+@Service
+public class WordExportService {
+
+    private static final String EXPORT_SQL =
+            "SELECT id, polish_word, ukrainian_word, correct_count, incorrect_count "
+                    + "FROM word_pairs WHERE user_id = ? ORDER BY id";
+
+    private static final String CSV_HEADER = "id,polish_word,ukrainian_word,correct_count,incorrect_count\n";
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WordExportService(
+            DataSource dataSource,
+            @Value("${words.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Writes every word pair of the user to {@code out}. The stream is flushed
+     * but not closed.
+     *
+     * @return the number of exported word pairs
+     */
+    @Transactional(readOnly = true)
+    public long export(Long userId, ExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(out, WRITE_BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzip ? gzipStream : out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
+
+        long[] rows = {0};
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setLong(1, userId);
+                return statement;
+            }, resultSet -> {
+                try {
+                    writeRow(writer, format, resultSet);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            // Writing failed, usually because the client went away; the cursor is closed by now
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (gzipStream != null) {
+            gzipStream.finish();
+        }
+        out.flush();
+        return rows[0];
+    }
+
+    private static void writeRow(Writer writer, ExportFormat format, ResultSet resultSet)
+            throws IOException, SQLException {
+        long id = resultSet.getLong(1);
+        String polishWord = resultSet.getString(2);
+        String ukrainianWord = resultSet.getString(3);
+        int correctCount = resultSet.getInt(4);
+        int incorrectCount = resultSet.getInt(5);
+
+        if (format == ExportFormat.CSV) {
+            writer.write(Long.toString(id));
+            writer.write(',');
+            writeCsvField(writer, polishWord);
+            writer.write(',');
+            writeCsvField(writer, ukrainianWord);
+            writer.write(',');
+            writer.write(Integer.toString(correctCount));
+            writer.write(',');
+            writer.write(Integer.toString(incorrectCount));
+        } else {
+            writer.write("{\"id\":");
+            writer.write(Long.toString(id));
+            writer.write(",\"polishWord\":");
+            writeJsonString(writer, polishWord);
+            writer.write(",\"ukrainianWord\":");
+            writeJsonString(writer, ukrainianWord);
+            writer.write(",\"correctCount\":");
+            writer.write(Integer.toString(correctCount));
+            writer.write(",\"incorrectCount\":");
+            writer.write(Integer.toString(incorrectCount));
+            writer.write('}');
+        }
+        writer.write('\n');
+    }
+
+    // RFC 4180: quote fields containing a separator, quote or line break, doubling inner quotes
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.WordSearchResultDTO;
+import com.example.wordle.entity.WordPair;
+import com.example.wordle.exception.BadRequestException;
+import com.example.wordle.repository.projection.WordText;
+import com.example.wordle.security.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Prefix and substring search over the caller's vocabulary in both languages.
+ * On PostgreSQL the query runs against the normalized forms, where the
+ * per-user {@code pg_trgm} indexes from
+ * {@code scripts/migrations/052-word-search-user-indexes.sql} serve the
+ * {@code LIKE} patterns; elsewhere it runs against the cached vocabulary
+ * snapshot. Both rank exact matches first, then prefixes, then other
+ * substrings, shorter words first.
+ *
+ * <p>Queries shorter than {@value #MIN_TRIGRAM_LENGTH} characters yield no
+ * trigrams, so on PostgreSQL they match prefixes only, as a key range the
+ * {@code text_pattern_ops} B-trees can answer.
+ */
+@Service
+public class WordSearchService {
+
+    public enum Backend {
+        AUTO,
+        DATABASE,
+        MEMORY
+    }
+
+    private static final int MAX_LIMIT = 50;
+
+    private static final int MIN_TRIGRAM_LENGTH = 3;
+
+    // Above every valid code point, so key >= prefix AND key < prefix + this is a prefix match
+    private static final String MAX_CODE_POINT = new String(Character.toChars(Character.MAX_CODE_POINT));
+
+    private static final String SEARCH_SQL = """
+            SELECT id, polish_word, ukrainian_word
+            FROM word_pairs
+            WHERE user_id = ? AND (polish_key LIKE ? ESCAPE '\\' OR ukrainian_key LIKE ? ESCAPE '\\')
+            ORDER BY CASE WHEN polish_key = ? OR ukrainian_key = ? THEN 0
+                          WHEN polish_key LIKE ? ESCAPE '\\' OR ukrainian_key LIKE ? ESCAPE '\\' THEN 1
+                          ELSE 2 END,
+                     least(CASE WHEN polish_key LIKE ? ESCAPE '\\' THEN length(polish_key) END,
+                           CASE WHEN ukrainian_key LIKE ? ESCAPE '\\' THEN length(ukrainian_key) END),
+                     id
+            LIMIT ?""";
+
+    private static final String PREFIX_SQL = """
+            SELECT id, polish_word, ukrainian_word
+            FROM word_pairs
+            WHERE user_id = ? AND ((polish_key ~>=~ ? AND polish_key ~<~ ?)
+                                OR (ukrainian_key ~>=~ ? AND ukrainian_key ~<~ ?))
+            ORDER BY CASE WHEN polish_key = ? OR ukrainian_key = ? THEN 0 ELSE 1 END,
+                     least(CASE WHEN polish_key ~>=~ ? AND polish_key ~<~ ? THEN length(polish_key) END,
+                           CASE WHEN ukrainian_key ~>=~ ? AND ukrainian_key ~<~ ? THEN length(ukrainian_key) END),
+                     id
+            LIMIT ?""";
+
+    private static final RowMapper<WordText> WORD_TEXT =
+            (rs, rowNum) -> new WordText(rs.getLong(1), rs.getString(2), rs.getString(3));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final VocabularyCache vocabularyCache;
+    private final Backend backend;
+    private volatile Boolean postgres;
+
+    public WordSearchService(
+            DataSource dataSource,
+            VocabularyCache vocabularyCache,
+            @Value("${words.search.backend:AUTO}") Backend backend) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.vocabularyCache = vocabularyCache;
+        this.backend = backend;
+    }
+
+    @Transactional(readOnly = true)
+    public List<WordSearchResultDTO> search(String query, int limit) {
+        String normalized = WordPair.normalize(query);
+        if (normalized.isEmpty()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_LIMIT));
+        Long userId = AuthenticatedUser.current().getId();
+
+        List<WordText> words = useDatabase()
+                ? searchDatabase(userId, normalized, pageSize)
+                : vocabularyCache.get(userId).search(normalized, pageSize);
+
+        return words.stream()
+                .map(word -> WordSearchResultDTO.builder()
+                        .id(word.id())
+                        .polishWord(word.polishWord())
+                        .ukrainianWord(word.ukrainianWord())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private List<WordText> searchDatabase(Long userId, String query, int limit) {
+        if (query.codePointCount(0, query.length()) < MIN_TRIGRAM_LENGTH) {
+            String upper = query + MAX_CODE_POINT;
+            return jdbcTemplate.query(PREFIX_SQL, WORD_TEXT,
+                    userId, query, upper, query, upper, query, query, query, upper, query, upper, limit);
+        }
+        String escaped = query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        String substring = "%" + escaped + "%";
+        String prefix = escaped + "%";
+        return jdbcTemplate.query(SEARCH_SQL, WORD_TEXT,
+                userId, substring, substring, query, query, prefix, prefix, substring, substring, limit);
+    }
+
+    private boolean useDatabase() {
+        if (backend != Backend.AUTO) {
+            return backend == Backend.DATABASE;
+        }
+        Boolean detected = postgres;
+        if (detected == null) {
+            detected = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+            postgres = detected;
+        }
+        return detected;
+    }
+}
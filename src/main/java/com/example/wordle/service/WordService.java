@@ -2,19 +2,32 @@ package com.example.wordle.service;
 
 import com.example.wordle.dto.BulkWordRequest;
 import com.example.wordle.dto.BulkWordResponse;
+import com.example.wordle.dto.WordChangeResponse;
 import com.example.wordle.dto.WordPairDTO;
+import com.example.wordle.dto.WordSelection;
+import com.example.wordle.dto.WordUpdateRequest;
 import com.example.wordle.entity.User;
+import com.example.wordle.entity.WordChange;
 import com.example.wordle.entity.WordPair;
+import com.example.wordle.exception.BadRequestException;
+import com.example.wordle.exception.ConflictException;
 import com.example.wordle.exception.NotFoundException;
 import com.example.wordle.repository.UserRepository;
+import com.example.wordle.repository.WordCriteria;
 import com.example.wordle.repository.WordPairRepository;
+import com.example.wordle.repository.projection.WordPairView;
+import com.example.wordle.repository.projection.WordText;
+import com.example.wordle.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,17 +37,16 @@ public class WordService {
 
     private final WordPairRepository wordPairRepository;
     private final UserRepository userRepository;
+    private final UserStatsService userStatsService;
+    private final VocabularyCache vocabularyCache;
 
-    private User getCurrentUser() {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        log.info(String.format("Found user %s", username));
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new NotFoundException("User not found"));
-    }
-
+    /**
+     * The owner is set by reference, so the pair is inserted without reading
+     * the user row first.
+     */
     @Transactional
     public WordPairDTO createWordPair(WordPairDTO dto) {
-        User user = getCurrentUser();
+        User user = userRepository.getReferenceById(AuthenticatedUser.current().getId());
 
         WordPair wordPair = WordPair.builder()
                 .polishWord(dto.getPolishWord().trim())
@@ -42,39 +54,178 @@ public class WordService {
                 .user(user)
                 .build();
 
-        WordPair saved = wordPairRepository.save(wordPair);
+        WordPair saved;
+        try {
+            saved = wordPairRepository.save(wordPair);
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("Word pair already exists");
+        }
+        wordPairRepository.insertTerms(user.getId(),
+                List.of(new WordText(saved.getId(), saved.getPolishWord(), saved.getUkrainianWord())));
+        wordPairRepository.logChanges(user.getId(), WordCriteria.byId(saved.getId()), WordChange.Kind.INSERTED);
+        userStatsService.recordWordsAdded(user.getId(), 1);
+        vocabularyCache.evictAfterCommit(user.getId());
         return convertToDTO(saved);
     }
 
+    /**
+     * Adds the pairs the user does not have yet. Pairs are compared by their
+     * normalized forms, so re-sending the same list creates nothing.
+     */
     @Transactional
     public BulkWordResponse createBulkWordPairs(BulkWordRequest request) {
-        User user = getCurrentUser();
-
-        List<WordPair> wordPairs = request.getWordPairs().stream()
-                .map(dto -> WordPair.builder()
-                        .polishWord(dto.getPolishWord().trim())
-                        .ukrainianWord(dto.getUkrainianWord().trim())
-                        .user(user)
-                        .build())
-                .collect(Collectors.toList());
+        Long userId = AuthenticatedUser.current().getId();
+
+        Map<String, WordPair> unique = new LinkedHashMap<>();
+        for (WordPairDTO dto : request.getWordPairs()) {
+            WordPair pair = WordPair.builder()
+                    .polishWord(dto.getPolishWord().trim())
+                    .ukrainianWord(dto.getUkrainianWord().trim())
+                    .build();
+            unique.putIfAbsent(WordPair.normalize(pair.getPolishWord()) + "\u0000"
+                    + WordPair.normalize(pair.getUkrainianWord()), pair);
+        }
 
-        List<WordPair> savedPairs = wordPairRepository.saveAll(wordPairs);
+        List<WordPairView> created = wordPairRepository.insertIfAbsent(userId, new ArrayList<>(unique.values()));
+        if (!created.isEmpty()) {
+            wordPairRepository.logChanges(userId,
+                    new WordCriteria(created.stream().map(WordPairView::id).toList(), null, null),
+                    WordChange.Kind.INSERTED);
+            userStatsService.recordWordsAdded(userId, created.size());
+            vocabularyCache.evictAfterCommit(userId);
+        }
 
         return BulkWordResponse.builder()
-                .totalProcessed(savedPairs.size())
-                .createdWords(savedPairs.stream()
+                .totalProcessed(request.getWordPairs().size())
+                .created(created.size())
+                .skipped(request.getWordPairs().size() - created.size())
+                .createdWords(created.stream()
                         .map(this::convertToDTO)
                         .collect(Collectors.toList()))
                 .build();
     }
 
+    @Transactional(readOnly = true)
     public List<WordPairDTO> getAllWordPairs() {
-        User user = getCurrentUser();
-        return wordPairRepository.findByUserId(user.getId()).stream()
+        Long userId = AuthenticatedUser.current().getId();
+        return wordPairRepository.findViewsByUserId(userId).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Changes one pair with single statements scoped to the user; the pair is
+     * read once afterwards for the response.
+     */
+    @Transactional
+    public WordPairDTO updateWordPair(Long id, WordUpdateRequest request) {
+        if (!request.changesWords() && !request.isResetCounts()) {
+            throw new BadRequestException("Nothing to update");
+        }
+        Long userId = AuthenticatedUser.current().getId();
+
+        if (request.changesWords()) {
+            int updated;
+            try {
+                updated = wordPairRepository.updateWords(userId, id, trim(request.getPolishWord()),
+                        trim(request.getUkrainianWord()));
+            } catch (DataIntegrityViolationException e) {
+                throw new ConflictException("Word pair already exists");
+            }
+            if (updated == 0) {
+                throw new NotFoundException("Word not found");
+            }
+            vocabularyCache.evictAfterCommit(userId);
+        }
+        if (request.isResetCounts() && wordPairRepository.resetCounts(userId, WordCriteria.byId(id)) == 0) {
+            throw new NotFoundException("Word not found");
+        }
+        wordPairRepository.logChanges(userId, WordCriteria.byId(id), WordChange.Kind.UPDATED);
+
+        return wordPairRepository.findViewsByIdIn(List.of(id)).stream()
+                .findFirst()
+                .map(this::convertToDTO)
+                .orElseThrow(() -> new NotFoundException("Word not found"));
+    }
+
+    /**
+     * Applies the change to every selected pair in one statement. Only counters
+     * can be reset in bulk; giving many pairs the same words makes no sense.
+     */
+    @Transactional
+    public WordChangeResponse updateWordPairs(WordSelection selection, WordUpdateRequest request) {
+        if (request.changesWords()) {
+            throw new BadRequestException("Words can only be changed one pair at a time");
+        }
+        if (!request.isResetCounts()) {
+            throw new BadRequestException("Nothing to update");
+        }
+        Long userId = AuthenticatedUser.current().getId();
+        WordCriteria criteria = toCriteria(selection);
+        int affected = wordPairRepository.resetCounts(userId, criteria);
+        if (affected > 0) {
+            wordPairRepository.logChanges(userId, criteria, WordChange.Kind.UPDATED);
+        }
+        return WordChangeResponse.builder().affected(affected).build();
+    }
+
+    @Transactional
+    public WordChangeResponse deleteWordPair(Long id) {
+        Long userId = AuthenticatedUser.current().getId();
+        if (deleteMatching(userId, WordCriteria.byId(id)) == 0) {
+            throw new NotFoundException("Word not found");
+        }
+        return WordChangeResponse.builder().affected(1).build();
+    }
+
+    /**
+     * Deletes every selected pair, and their terms, in one statement.
+     */
+    @Transactional
+    public WordChangeResponse deleteWordPairs(WordSelection selection) {
+        Long userId = AuthenticatedUser.current().getId();
+        int affected = deleteMatching(userId, toCriteria(selection));
+        return WordChangeResponse.builder().affected(affected).build();
+    }
+
+    // The tombstones are written first, while the pairs can still be selected
+    private int deleteMatching(Long userId, WordCriteria criteria) {
+        if (wordPairRepository.logChanges(userId, criteria, WordChange.Kind.DELETED) == 0) {
+            return 0;
+        }
+        int deleted = wordPairRepository.deleteMatching(userId, criteria);
+        if (deleted > 0) {
+            userStatsService.recordWordsRemoved(userId, deleted);
+            vocabularyCache.evictAfterCommit(userId);
+        }
+        return deleted;
+    }
+
+    private static WordCriteria toCriteria(WordSelection selection) {
+        WordCriteria criteria = new WordCriteria(
+                selection.getIds() == null || selection.getIds().isEmpty() ? null : selection.getIds(),
+                selection.getCreatedFrom(),
+                selection.getCreatedTo());
+        if (criteria.isUnrestricted() && !selection.isAll()) {
+            throw new BadRequestException("Select words by ids, createdFrom or createdTo, or pass all=true");
+        }
+        return criteria;
+    }
+
+    private static String trim(String word) {
+        return word == null ? null : word.trim();
+    }
+
+    private WordPairDTO convertToDTO(WordPairView view) {
+        return WordPairDTO.builder()
+                .id(view.id())
+                .polishWord(view.polishWord())
+                .ukrainianWord(view.ukrainianWord())
+                .correctCount(view.correctCount())
+                .incorrectCount(view.incorrectCount())
+                .build();
+    }
+
     private WordPairDTO convertToDTO(WordPair wordPair) {
         return WordPairDTO.builder()
                 .id(wordPair.getId())
@@ -0,0 +1,162 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.WordChangesDTO;
+import com.example.wordle.dto.WordPairDTO;
+import com.example.wordle.entity.WordChange;
+import com.example.wordle.exception.BadRequestException;
+import com.example.wordle.repository.WordPairRepository;
+import com.example.wordle.repository.projection.WordPairView;
+import com.example.wordle.security.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Delta sync over the {@code word_changes} log. A cursor is the position of
+ * the last change a client has seen, ordered by {@code (changed_at, id)}.
+ * Changes younger than {@code word-changes.settle-ms} are held back: a write
+ * that commits late still lands after every cursor handed out before it, so
+ * none is skipped. Several changes of one pair in a page are sent once, with
+ * the pair as it is now. Without a cursor, or with one older than the
+ * retention of the log, the client gets the whole vocabulary instead.
+ */
+@Service
+public class WordSyncService {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private static final String CHANGES_SQL = """
+            SELECT id, word_pair_id, kind, changed_at FROM word_changes
+            WHERE user_id = ? AND changed_at <= ? AND (changed_at > ? OR (changed_at = ? AND id > ?))
+            ORDER BY changed_at, id
+            LIMIT ?""";
+
+    private record Change(long id, long wordPairId, WordChange.Kind kind, LocalDateTime changedAt) {
+    }
+
+    private record Cursor(LocalDateTime changedAt, long id) {
+
+        static Cursor parse(String value) {
+            int separator = value.indexOf('-');
+            try {
+                long micros = Long.parseLong(value.substring(0, separator));
+                return new Cursor(LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                        (int) Math.floorMod(micros, 1_000_000L) * 1000, ZoneOffset.UTC),
+                        Long.parseLong(value.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new BadRequestException("Invalid cursor: " + value);
+            }
+        }
+
+        @Override
+        public String toString() {
+            long micros = changedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + changedAt.getNano() / 1000;
+            return micros + "-" + id;
+        }
+    }
+
+    private final WordPairRepository wordPairRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration settle;
+    private final Duration retention;
+
+    public WordSyncService(
+            WordPairRepository wordPairRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${word-changes.settle-ms:2000}") long settleMs,
+            @Value("${word-changes.retention-days:30}") long retentionDays) {
+        this.wordPairRepository = wordPairRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.settle = Duration.ofMillis(settleMs);
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @Transactional(readOnly = true)
+    public WordChangesDTO getChanges(String since, int limit) {
+        Long userId = AuthenticatedUser.current().getId();
+        LocalDateTime now = WordChange.now();
+        // Everything up to here is final; the next request starts after it
+        Cursor settled = new Cursor(now.minus(settle), Long.MAX_VALUE);
+
+        Cursor cursor = since == null || since.isBlank() ? null : Cursor.parse(since);
+        if (cursor == null || cursor.changedAt().isBefore(now.minus(retention))) {
+            return WordChangesDTO.builder()
+                    .cursor(settled.toString())
+                    .reset(true)
+                    .inserted(wordPairRepository.findViewsByUserId(userId).stream()
+                            .map(WordSyncService::toDTO)
+                            .collect(Collectors.toList()))
+                    .updated(List.of())
+                    .deleted(List.of())
+                    .build();
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<Change> changes = jdbcTemplate.query(CHANGES_SQL,
+                (rs, rowNum) -> new Change(rs.getLong(1), rs.getLong(2),
+                        WordChange.Kind.values()[rs.getInt(3)], rs.getTimestamp(4).toLocalDateTime()),
+                userId, Timestamp.valueOf(settled.changedAt()),
+                Timestamp.valueOf(cursor.changedAt()), Timestamp.valueOf(cursor.changedAt()), cursor.id(),
+                pageSize + 1);
+        boolean hasMore = changes.size() > pageSize;
+        if (hasMore) {
+            changes = changes.subList(0, pageSize);
+        }
+
+        // Pair id -> whether the pair was created within these changes
+        Map<Long, Boolean> created = new LinkedHashMap<>();
+        for (Change change : changes) {
+            created.merge(change.wordPairId(), change.kind() == WordChange.Kind.INSERTED, Boolean::logicalOr);
+        }
+        Map<Long, WordPairView> current = created.isEmpty()
+                ? Map.of()
+                : wordPairRepository.findViewsByIdIn(created.keySet()).stream()
+                        .collect(Collectors.toMap(WordPairView::id, Function.identity()));
+
+        List<WordPairDTO> inserted = new ArrayList<>();
+        List<WordPairDTO> updated = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        created.forEach((id, isNew) -> {
+            WordPairView pair = current.get(id);
+            if (pair != null) {
+                (isNew ? inserted : updated).add(toDTO(pair));
+            } else if (!isNew) {
+                // A pair created and deleted since the cursor never reached the client
+                deleted.add(id);
+            }
+        });
+
+        Cursor next = hasMore
+                ? new Cursor(changes.get(changes.size() - 1).changedAt(), changes.get(changes.size() - 1).id())
+                : settled;
+        return WordChangesDTO.builder()
+                .cursor(next.toString())
+                .hasMore(hasMore)
+                .inserted(inserted)
+                .updated(updated)
+                .deleted(deleted)
+                .build();
+    }
+
+    private static WordPairDTO toDTO(WordPairView view) {
+        return WordPairDTO.builder()
+                .id(view.id())
+                .polishWord(view.polishWord())
+                .ukrainianWord(view.ukrainianWord())
+                .correctCount(view.correctCount())
+                .incorrectCount(view.incorrectCount())
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.wordle.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Words that are still possible answers given the feedback seen so far. Each
+ * {@link #prune} keeps the candidates that would have produced the same
+ * pattern for that guess, compacting them in place, so a solver can apply
+ * feedback after feedback and {@link #reset} between games without allocating.
+ * Not thread-safe; give each solver its own instance.
+ */
+final class WordleCandidates {
+
+    private final long[] words;
+    private final long[] remaining;
+    private int size;
+
+    private WordleCandidates(long[] words) {
+        this.words = words;
+        this.remaining = words.clone();
+        this.size = words.length;
+    }
+
+    /**
+     * @throws IllegalArgumentException if a word cannot be encoded or the words
+     *                                  differ in length
+     */
+    static WordleCandidates of(Collection<String> words) {
+        long[] encoded = new long[words.size()];
+        int i = 0;
+        for (String word : words) {
+            encoded[i] = WordleEvaluator.encode(word);
+            if (WordleEvaluator.length(encoded[i]) != WordleEvaluator.length(encoded[0])) {
+                throw new IllegalArgumentException("Candidates must have the same length: " + word);
+            }
+            i++;
+        }
+        return new WordleCandidates(encoded);
+    }
+
+    int size() {
+        return size;
+    }
+
+    long get(int index) {
+        return remaining[index];
+    }
+
+    /**
+     * Drops every candidate that {@code guess} would not have scored as
+     * {@code pattern}.
+     *
+     * @return how many candidates are left
+     */
+    int prune(long guess, int pattern) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            long candidate = remaining[i];
+            if (WordleEvaluator.evaluate(candidate, guess) == pattern) {
+                remaining[kept++] = candidate;
+            }
+        }
+        size = kept;
+        return kept;
+    }
+
+    void reset() {
+        System.arraycopy(words, 0, remaining, 0, words.length);
+        size = words.length;
+    }
+
+    List<String> toList() {
+        List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(WordleEvaluator.decode(remaining[i]));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.LetterFeedback;
+
+import java.util.List;
+
+/**
+ * Wordle scoring over words packed into a {@code long}. Each letter of the
+ * Polish and Ukrainian alphabets (plus the Ukrainian apostrophe) has a code
+ * from 1 to 69, stored in 7 bits per position, lowest position first; code 0
+ * ends the word, so a word has at most {@link #MAX_LENGTH} letters.
+ * <p>
+ * A feedback pattern is an {@code int} with 2 bits per position
+ * ({@link #ABSENT}, {@link #PRESENT}, {@link #CORRECT}), so two guesses that
+ * score the same have equal patterns. {@link #evaluate(long, long)} works on
+ * the packed words and bitmasks only and allocates nothing; encode words once
+ * and keep the {@code long}s.
+ */
+final class WordleEvaluator {
+
+    static final int MAX_LENGTH = 9;
+
+    static final int ABSENT = 0;
+    static final int PRESENT = 1;
+    static final int CORRECT = 2;
+
+    private static final int BITS_PER_LETTER = 7;
+    private static final long LETTER_MASK = (1L << BITS_PER_LETTER) - 1;
+
+    private static final String POLISH = "aąbcćdeęfghijklłmnńoópqrsśtuvwxyzźż";
+    private static final String UKRAINIAN = "абвгґдеєжзиіїйклмнопрстуфхцчшщьюя";
+    private static final char APOSTROPHE = '\'';
+
+    // Lowercase letter -> code, indexed by char; covers everything up to 'ґ' (U+0491)
+    private static final byte[] CODES = new byte[UKRAINIAN.charAt(4) + 1];
+    private static final char[] LETTERS = new char[POLISH.length() + UKRAINIAN.length() + 2];
+
+    static {
+        String alphabet = POLISH + UKRAINIAN + APOSTROPHE;
+        for (int i = 0; i < alphabet.length(); i++) {
+            CODES[alphabet.charAt(i)] = (byte) (i + 1);
+            LETTERS[i + 1] = alphabet.charAt(i);
+        }
+        // Modifier letter apostrophe, the form Ukrainian orthography prefers
+        CODES['ʼ'] = CODES[APOSTROPHE];
+    }
+
+    private WordleEvaluator() {
+    }
+
+    /**
+     * Packs a word, lower-casing it first.
+     *
+     * @throws IllegalArgumentException if it is empty, longer than {@link #MAX_LENGTH}
+     *                                  or has a character outside both alphabets
+     */
+    static long encode(String word) {
+        if (word.isEmpty() || word.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Word must have 1 to " + MAX_LENGTH + " letters: " + word);
+        }
+        long packed = 0;
+        for (int i = 0; i < word.length(); i++) {
+            int code = code(word.charAt(i));
+            if (code == 0) {
+                throw new IllegalArgumentException("Unsupported letter '" + word.charAt(i) + "' in " + word);
+            }
+            packed |= (long) code << (i * BITS_PER_LETTER);
+        }
+        return packed;
+    }
+
+    static boolean canEncode(String word) {
+        if (word.isEmpty() || word.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (code(word.charAt(i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String decode(long word) {
+        StringBuilder text = new StringBuilder(MAX_LENGTH);
+        for (int i = 0; i < MAX_LENGTH && letter(word, i) != 0; i++) {
+            text.append(LETTERS[letter(word, i)]);
+        }
+        return text.toString();
+    }
+
+    static int length(long word) {
+        int length = 0;
+        while (length < MAX_LENGTH && letter(word, length) != 0) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Scores {@code guess} against {@code target}, which must have the same
+     * length. Exact positions are {@link #CORRECT}; a repeated letter is
+     * {@link #PRESENT} only as many times as the target still has it outside
+     * those positions, counting from the left.
+     */
+    static int evaluate(long target, long guess) {
+        int pattern = 0;
+        int greens = 0;
+        // Letters of the target outside the green positions; codes go up to 69, hence two words
+        long presentLow = 0;
+        long presentHigh = 0;
+
+        for (int i = 0; i < MAX_LENGTH; i++) {
+            int g = letter(guess, i);
+            if (g == 0) {
+                break;
+            }
+            int t = letter(target, i);
+            if (g == t) {
+                greens |= 1 << i;
+                pattern |= CORRECT << (i * 2);
+            } else if (t < 64) {
+                presentLow |= 1L << t;
+            } else {
+                presentHigh |= 1L << (t - 64);
+            }
+        }
+
+        for (int i = 0; i < MAX_LENGTH; i++) {
+            int g = letter(guess, i);
+            if (g == 0) {
+                break;
+            }
+            if ((greens & (1 << i)) != 0 || ((g < 64 ? presentLow >>> g : presentHigh >>> (g - 64)) & 1) == 0) {
+                continue;
+            }
+            // Only repeated letters get this far often enough to matter, and words are short
+            int available = 0;
+            for (int j = 0; j < MAX_LENGTH && letter(target, j) != 0; j++) {
+                if (letter(target, j) == g && (greens & (1 << j)) == 0) {
+                    available++;
+                }
+            }
+            int taken = 0;
+            for (int k = 0; k < i; k++) {
+                if (letter(guess, k) == g && (greens & (1 << k)) == 0) {
+                    taken++;
+                }
+            }
+            if (taken < available) {
+                pattern |= PRESENT << (i * 2);
+            }
+        }
+        return pattern;
+    }
+
+    static int solvedPattern(int length) {
+        int pattern = 0;
+        for (int i = 0; i < length; i++) {
+            pattern |= CORRECT << (i * 2);
+        }
+        return pattern;
+    }
+
+    static List<LetterFeedback> feedback(int pattern, int length) {
+        LetterFeedback[] letters = new LetterFeedback[length];
+        for (int i = 0; i < length; i++) {
+            letters[i] = switch ((pattern >>> (i * 2)) & 3) {
+                case CORRECT -> LetterFeedback.CORRECT;
+                case PRESENT -> LetterFeedback.PRESENT;
+                default -> LetterFeedback.ABSENT;
+            };
+        }
+        return List.of(letters);
+    }
+
+    private static int code(char c) {
+        char lower = Character.toLowerCase(c);
+        if (lower == '’') {
+            return CODES[APOSTROPHE];
+        }
+        return lower < CODES.length ? CODES[lower] : 0;
+    }
+
+    private static int letter(long word, int position) {
+        return (int) ((word >>> (position * BITS_PER_LETTER)) & LETTER_MASK);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.wordle.tracing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Appends finished traces to a file as OTLP/JSON, one
+ * {@code ExportTraceServiceRequest} per line, which the OpenTelemetry
+ * Collector's {@code otlpjsonfile} receiver can replay. Traces are queued by
+ * the request thread and written by a background flush; when the queue is
+ * full they are dropped rather than slowing requests down.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tracing.exporter", havingValue = "otlp-file", matchIfMissing = true)
+public class OtlpJsonFileExporter implements SpanExporter {
+
+    private static final ObjectMapper JSON = JsonMapper.builder().build();
+
+    private final Path file;
+    private final String serviceName;
+    private final BlockingQueue<List<Span>> buffer;
+    private final int batchSize;
+    private final Object flushLock = new Object();
+
+    private final Counter exportedCounter;
+    private final Counter droppedCounter;
+
+    public OtlpJsonFileExporter(
+            MeterRegistry meterRegistry,
+            @Value("${tracing.export.file:traces.jsonl}") Path file,
+            @Value("${spring.application.name:wordle}") String serviceName,
+            @Value("${tracing.export.capacity:1000}") int capacity,
+            @Value("${tracing.export.batch-size:100}") int batchSize) {
+        this.file = file;
+        this.serviceName = serviceName;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+
+        meterRegistry.gauge("tracing.export.buffer.size", buffer, BlockingQueue::size);
+        this.exportedCounter = traceCounter(meterRegistry, "exported");
+        this.droppedCounter = traceCounter(meterRegistry, "dropped");
+    }
+
+    private static Counter traceCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("tracing.traces")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void export(List<Span> spans) {
+        if (!buffer.offer(spans)) {
+            droppedCounter.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tracing.export.flush-interval-ms:1000}")
+    public void flush() {
+        synchronized (flushLock) {
+            List<List<Span>> batch = new ArrayList<>(batchSize);
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private void write(List<List<Span>> traces) {
+        List<Map<String, Object>> spans = new ArrayList<>();
+        for (List<Span> trace : traces) {
+            for (Span span : trace) {
+                spans.add(toOtlp(span));
+            }
+        }
+
+        Map<String, Object> request = Map.of("resourceSpans", List.of(Map.of(
+                "resource", Map.of("attributes", List.of(attribute("service.name", serviceName))),
+                "scopeSpans", List.of(Map.of(
+                        "scope", Map.of("name", Tracer.class.getPackageName()),
+                        "spans", spans)))));
+
+        try {
+            Files.writeString(file, JSON.writeValueAsString(request) + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            exportedCounter.increment(traces.size());
+        } catch (IOException | RuntimeException e) {
+            droppedCounter.increment(traces.size());
+            log.warn("Failed to write {} traces to {}", traces.size(), file, e);
+        }
+    }
+
+    private static Map<String, Object> toOtlp(Span span) {
+        Map<String, Object> otlp = new LinkedHashMap<>();
+        otlp.put("traceId", span.getTraceId());
+        otlp.put("spanId", span.getSpanId());
+        if (span.getParentSpanId() != null) {
+            otlp.put("parentSpanId", span.getParentSpanId());
+        }
+        otlp.put("name", span.getName());
+        otlp.put("kind", span.getKind().otlpValue());
+        // 64-bit integers are strings in OTLP/JSON
+        otlp.put("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+        otlp.put("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+
+        List<Map<String, Object>> attributes = new ArrayList<>();
+        span.getAttributes().forEach((key, value) -> attributes.add(attribute(key, value)));
+        otlp.put("attributes", attributes);
+
+        if (span.isError()) {
+            otlp.put("status", Map.of("code", 2, "message", span.getErrorMessage()));
+        }
+        return otlp;
+    }
+
+    private static Map<String, Object> attribute(String key, Object value) {
+        Map<String, Object> anyValue;
+        if (value instanceof Boolean b) {
+            anyValue = Map.of("boolValue", b);
+        } else if (value instanceof Integer || value instanceof Long) {
+            anyValue = Map.of("intValue", value.toString());
+        } else if (value instanceof Number n) {
+            anyValue = Map.of("doubleValue", n.doubleValue());
+        } else {
+            anyValue = Map.of("stringValue", String.valueOf(value));
+        }
+        return Map.of("key", key, "value", anyValue);
+    }
+}
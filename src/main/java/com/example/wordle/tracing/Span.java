@@ -0,0 +1,97 @@
+package com.example.wordle.tracing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One timed operation of a trace. Spans are only touched by the thread that
+ * handles the request, so they are not synchronized.
+ */
+public final class Span {
+
+    // Wall clock at class load plus monotonic offsets, so span durations do not jump with clock adjustments
+    private static final long ANCHOR_EPOCH_NANOS = System.currentTimeMillis() * 1_000_000L;
+    private static final long ANCHOR_NANO_TIME = System.nanoTime();
+
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final String name;
+    private final SpanKind kind;
+    private final long startEpochNanos;
+    private long endEpochNanos;
+    private Map<String, Object> attributes;
+    private String errorMessage;
+    private boolean error;
+
+    Span(String traceId, String spanId, String parentSpanId, String name, SpanKind kind) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        this.startEpochNanos = epochNanos();
+    }
+
+    static long epochNanos() {
+        return ANCHOR_EPOCH_NANOS + (System.nanoTime() - ANCHOR_NANO_TIME);
+    }
+
+    void end() {
+        endEpochNanos = epochNanos();
+    }
+
+    public void setAttribute(String key, Object value) {
+        if (attributes == null) {
+            attributes = new LinkedHashMap<>();
+        }
+        attributes.put(key, value);
+    }
+
+    public void recordError(Throwable throwable) {
+        error = true;
+        errorMessage = throwable.getClass().getSimpleName()
+                + (throwable.getMessage() != null ? ": " + throwable.getMessage() : "");
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public SpanKind getKind() {
+        return kind;
+    }
+
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    public long getEndEpochNanos() {
+        return endEpochNanos;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return attributes != null ? attributes : Collections.emptyMap();
+    }
+
+    public boolean isError() {
+        return error;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
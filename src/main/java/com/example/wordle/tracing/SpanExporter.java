@@ -0,0 +1,12 @@
+package com.example.wordle.tracing;
+
+import java.util.List;
+
+/**
+ * Receives the spans of each finished, sampled trace. Called on the request
+ * thread, so implementations should only hand the spans off.
+ */
+public interface SpanExporter {
+
+    void export(List<Span> spans);
+}
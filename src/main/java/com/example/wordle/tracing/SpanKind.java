@@ -0,0 +1,20 @@
+package com.example.wordle.tracing;
+
+/**
+ * Span kinds with their OTLP enum values.
+ */
+public enum SpanKind {
+    INTERNAL(1),
+    SERVER(2),
+    CLIENT(3);
+
+    private final int otlpValue;
+
+    SpanKind(int otlpValue) {
+        this.otlpValue = otlpValue;
+    }
+
+    public int otlpValue() {
+        return otlpValue;
+    }
+}
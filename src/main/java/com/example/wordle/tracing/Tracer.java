@@ -0,0 +1,163 @@
+package com.example.wordle.tracing;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Request-scoped tracer. A trace is started by {@link TracingFilter} and lives
+ * in a thread local until its root span ends; nested spans are pushed and
+ * popped on the same thread. Unsampled requests never get a trace, so every
+ * other call is a thread-local read and a null check.
+ */
+@Component
+public class Tracer {
+
+    private static final ThreadLocal<ActiveTrace> CURRENT = new ThreadLocal<>();
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final SpanExporter exporter;
+    private final boolean enabled;
+    private final double sampleRatio;
+    private final int maxSpansPerTrace;
+
+    public Tracer(
+            ObjectProvider<SpanExporter> exporter,
+            @Value("${tracing.enabled:false}") boolean enabled,
+            @Value("${tracing.sample-ratio:0.01}") double sampleRatio,
+            @Value("${tracing.max-spans-per-trace:256}") int maxSpansPerTrace) {
+        this(exporter.getIfAvailable(() -> spans -> { }), enabled, sampleRatio, maxSpansPerTrace);
+    }
+
+    Tracer(SpanExporter exporter, boolean enabled, double sampleRatio, int maxSpansPerTrace) {
+        this.exporter = exporter;
+        this.enabled = enabled;
+        this.sampleRatio = sampleRatio;
+        this.maxSpansPerTrace = maxSpansPerTrace;
+    }
+
+    private static final class ActiveTrace {
+        private final String traceId;
+        private final Deque<Span> open = new ArrayDeque<>();
+        private final List<Span> finished = new ArrayList<>();
+        private int dropped;
+
+        private ActiveTrace(String traceId) {
+            this.traceId = traceId;
+        }
+    }
+
+    /**
+     * Starts a trace with a root span when the request is sampled. A valid W3C
+     * {@code traceparent} header decides sampling and becomes the parent;
+     * otherwise the request is sampled with {@code tracing.sample-ratio}.
+     *
+     * @return the root span, or {@code null} when the request is not traced
+     */
+    public Span startTrace(String name, String traceparent) {
+        if (!enabled || CURRENT.get() != null) {
+            return null;
+        }
+
+        String traceId;
+        String parentSpanId = null;
+        if (isValidTraceparent(traceparent)) {
+            if ((HexFormat.fromHexDigits(traceparent, 53, 55) & 1) == 0) {
+                return null;
+            }
+            traceId = traceparent.substring(3, 35);
+            parentSpanId = traceparent.substring(36, 52);
+        } else if (ThreadLocalRandom.current().nextDouble() < sampleRatio) {
+            traceId = randomHex(16);
+        } else {
+            return null;
+        }
+
+        ActiveTrace trace = new ActiveTrace(traceId);
+        Span root = new Span(traceId, randomHex(8), parentSpanId, name, SpanKind.SERVER);
+        trace.open.push(root);
+        CURRENT.set(trace);
+        return root;
+    }
+
+    /**
+     * Starts a child of the innermost open span.
+     *
+     * @return the span, or {@code null} when the current thread is not tracing
+     */
+    public Span startSpan(String name, SpanKind kind) {
+        ActiveTrace trace = CURRENT.get();
+        if (trace == null) {
+            return null;
+        }
+        Span span = new Span(trace.traceId, randomHex(8), trace.open.peek().getSpanId(), name, kind);
+        trace.open.push(span);
+        return span;
+    }
+
+    public boolean isTracing() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Ends a span returned by this tracer; {@code null} is ignored. Ending the
+     * root span hands the whole trace to the exporter.
+     */
+    public void end(Span span) {
+        ActiveTrace trace = CURRENT.get();
+        if (span == null || trace == null) {
+            return;
+        }
+
+        span.end();
+        trace.open.remove(span);
+        boolean root = trace.open.isEmpty();
+        // Keep one slot for the root span, which ends last
+        if (root || trace.finished.size() < maxSpansPerTrace - 1) {
+            trace.finished.add(span);
+        } else {
+            trace.dropped++;
+        }
+
+        if (root) {
+            CURRENT.remove();
+            if (trace.dropped > 0) {
+                span.setAttribute("tracing.dropped_spans", trace.dropped);
+            }
+            exporter.export(trace.finished);
+        }
+    }
+
+    public String currentTraceId() {
+        ActiveTrace trace = CURRENT.get();
+        return trace != null ? trace.traceId : null;
+    }
+
+    // 00-<32 hex trace id>-<16 hex parent id>-<2 hex flags>
+    private static boolean isValidTraceparent(String header) {
+        if (header == null || header.length() != 55 || !header.startsWith("00-")
+                || header.charAt(35) != '-' || header.charAt(52) != '-') {
+            return false;
+        }
+        for (int i = 3; i < 55; i++) {
+            if (i != 35 && i != 52 && Character.digit(header.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return !header.startsWith("00000000000000000000000000000000", 3)
+                && !header.startsWith("0000000000000000", 36);
+    }
+
+    private static String randomHex(int bytes) {
+        byte[] id = new byte[bytes];
+        ThreadLocalRandom.current().nextBytes(id);
+        return HEX.formatHex(id);
+    }
+}
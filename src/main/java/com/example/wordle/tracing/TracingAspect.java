@@ -0,0 +1,57 @@
+package com.example.wordle.tracing;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records a span for every public controller and service method and for every
+ * Spring Data repository call made while a request is being traced.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "tracing.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TracingAspect {
+
+    private final Tracer tracer;
+
+    @Around("execution(public * com.example.wordle.controller..*(..)) "
+            + "|| execution(public * com.example.wordle.service..*(..))")
+    public Object traceComponent(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!tracer.isTracing()) {
+            return joinPoint.proceed();
+        }
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        return trace(joinPoint, name, SpanKind.INTERNAL);
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!tracer.isTracing()) {
+            return joinPoint.proceed();
+        }
+        // Inherited finders are declared on CrudRepository; name them after the proxied interface
+        Class<?>[] interfaces = joinPoint.getThis().getClass().getInterfaces();
+        String repository = interfaces.length > 0
+                ? interfaces[0].getSimpleName()
+                : joinPoint.getSignature().getDeclaringType().getSimpleName();
+        return trace(joinPoint, repository + "." + joinPoint.getSignature().getName(), SpanKind.CLIENT);
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String name, SpanKind kind) throws Throwable {
+        Span span = tracer.startSpan(name, kind);
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            tracer.end(span);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.wordle.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens the root span of each sampled request ahead of every other filter,
+ * including Spring Security, and returns the trace id in {@code X-Trace-Id}.
+ * Time in the root span not covered by a child span is spent in the framework,
+ * mostly reading the request and writing the response body.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "tracing.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TracingFilter extends OncePerRequestFilter {
+
+    private final Tracer tracer;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Span root = tracer.startTrace(request.getMethod() + " " + request.getRequestURI(),
+                request.getHeader("traceparent"));
+        if (root == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        root.setAttribute("http.request.method", request.getMethod());
+        root.setAttribute("url.path", request.getRequestURI());
+        response.setHeader("X-Trace-Id", root.getTraceId());
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            root.recordError(e);
+            throw e;
+        } finally {
+            root.setAttribute("http.response.status_code", response.getStatus());
+            tracer.end(root);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.wordle.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two H2 in-memory databases stand in for the primary and the replica. Each one
+ * holds a different marker row, so a query reveals which database served it.
+ */
+@SpringBootTest(properties = {
+        "datasource.routing.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1",
+        "datasource.replica.url=jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1",
+        "datasource.replica.username=sa",
+        "datasource.replica.password=",
+        "datasource.routing.sticky-primary-ms=60000"
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+class ReadWriteRoutingDataSourceTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        markDatabase(primaryDataSource, "primary");
+        markDatabase(replicaDataSource, "replica");
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        assertThat(databaseServing(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldRouteReadWriteTransactionsToPrimary() {
+        assertThat(databaseServing(false)).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldPinUserToPrimaryAfterWrite() {
+        // Given
+        authenticate("alice");
+        databaseServing(false);
+
+        // When
+        String aliceReadsFrom = databaseServing(true);
+        authenticate("bob");
+        String bobReadsFrom = databaseServing(true);
+
+        // Then
+        assertThat(aliceReadsFrom).isEqualTo("primary");
+        assertThat(bobReadsFrom).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldReadFromPrimaryWhenAskedWithoutPinning() {
+        // Given
+        authenticate("carol");
+
+        // When
+        String snapshotReadsFrom = ReadWriteRoutingDataSource.readFromPrimary(() -> databaseServing(true));
+        String laterReadsFrom = databaseServing(true);
+
+        // Then
+        assertThat(snapshotReadsFrom).isEqualTo("primary");
+        assertThat(laterReadsFrom).isEqualTo("replica");
+    }
+
+    private String databaseServing(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM db_role", String.class));
+    }
+
+    private static void markDatabase(DataSource target, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(target);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS db_role (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM db_role");
+        jdbcTemplate.update("INSERT INTO db_role (name) VALUES (?)", name);
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+}
@@ -0,0 +1,362 @@
+package com.example.wordle.controller;
+
+import com.example.wordle.support.QueryCounter;
+import com.example.wordle.support.QueryCountingConfiguration;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Map.entry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fails the build when an endpoint starts issuing more SQL statements or fetching
+ * more rows than its declared budget. Each test signs up a fresh user with four
+ * words, so the numbers do not depend on test order. Lower a budget when an
+ * optimization lands; raising one needs a reason in review.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(QueryCountingConfiguration.class)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class EndpointQueryBudgetTest {
+
+    private record Budget(int statements, long rows) {
+    }
+
+    // Authenticated requests cost nothing in JwtAuthenticationFilter: the access token carries the user
+    // and revocations are checked in memory. Every write to word_pairs adds one INSERT ... SELECT into
+    // word_changes, the log behind delta sync. Signup, login and refresh store a refresh token.
+    private static final Map<String, Budget> BUDGETS = Map.ofEntries(
+            // Plus the user's empty user_stats row
+            entry("POST /auth/signup", new Budget(5, 0)),
+            entry("POST /auth/login", new Budget(3, 2)),
+            // The presented token, marking it used, its user, and the next token
+            entry("POST /auth/refresh", new Budget(4, 2)),
+            // Plus one batch for the word_terms rows of the new pairs
+            entry("POST /api/words", new Budget(4, 0)),
+            // A retry with the same Idempotency-Key is answered from the stored response
+            entry("POST /api/words (retry)", new Budget(0, 0)),
+            // Inserted rows come back from the insert itself (RETURNING / FINAL TABLE)
+            entry("POST /api/words/bulk", new Budget(4, 2)),
+            entry("GET /api/words", new Budget(1, 4)),
+            entry("PATCH /api/words/{id}", new Budget(4, 1)),
+            // Tombstones and one DELETE however many pairs match, plus the total in user_stats
+            entry("DELETE /api/words", new Budget(3, 0)),
+            // The changed pair: one row from the log and one from word_pairs
+            entry("GET /api/words/changes", new Budget(2, 2)),
+            entry("GET /api/words/search", new Budget(1, 4)),
+            entry("GET /api/quiz/multiple-choice", new Budget(1, 4)),
+            // The term lookup; counters and stats are applied later by the answer buffer
+            entry("POST /api/quiz/spell-check", new Budget(1, 1)),
+            entry("POST /api/quiz/answer", new Budget(0, 0)),
+            entry("POST /api/quiz/multiple-choice/answer", new Budget(5, 2)),
+            entry("GET /api/stats", new Budget(1, 1)),
+            // Ranked in memory
+            entry("GET /api/leaderboard", new Budget(0, 0)),
+            // The data itself is purged later by AccountPurgeJob; revoking the tokens takes four
+            // statements: bump users.token_version, read it back, log it for the other instances and
+            // delete the refresh tokens
+            entry("DELETE /api/account", new Budget(6, 1)),
+            entry("DELETE /api/account/sessions", new Budget(4, 1)),
+            // Served from memory; the JWT filter skips the path even with a token
+            entry("GET /daily-puzzle", new Budget(0, 0))
+    );
+
+    private static final AtomicInteger USER_SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String username;
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        username = "budget" + USER_SEQUENCE.incrementAndGet();
+        token = signup(username);
+        mockMvc.perform(authorized(post("/api/words/bulk"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"wordPairs": [
+                                  {"polishWord": "kot", "ukrainianWord": "кіт"},
+                                  {"polishWord": "pies", "ukrainianWord": "собака"},
+                                  {"polishWord": "dom", "ukrainianWord": "будинок"},
+                                  {"polishWord": "woda", "ukrainianWord": "вода"}
+                                ]}"""))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void signupStaysWithinBudget() throws Exception {
+        withinBudget("POST /auth/signup", post("/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(signupBody(username + "x")));
+    }
+
+    @Test
+    void loginStaysWithinBudget() throws Exception {
+        withinBudget("POST /auth/login", post("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"username": "%s", "password": "password123"}""".formatted(username)));
+    }
+
+    @Test
+    void createWordStaysWithinBudget() throws Exception {
+        withinBudget("POST /api/words", authorized(post("/api/words"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"polishWord": "jabłko", "ukrainianWord": "яблуко"}"""));
+    }
+
+    @Test
+    void createWordRetryStaysWithinBudget() throws Exception {
+        MockHttpServletRequestBuilder request = authorized(post("/api/words"))
+                .header("Idempotency-Key", "retry-" + username)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"polishWord": "jabłko", "ukrainianWord": "яблуко"}""");
+        String first = mockMvc.perform(request)
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        MvcResult retry = withinBudget("POST /api/words (retry)", request);
+
+        assertThat(retry.getResponse().getContentAsString()).isEqualTo(first);
+        assertThat(retry.getResponse().getHeader("Idempotent-Replayed")).isEqualTo("true");
+    }
+
+    @Test
+    void updateWordStaysWithinBudget() throws Exception {
+        Number wordId = JsonPath.read(mockMvc.perform(authorized(get("/api/words")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), "$[0].id");
+
+        MvcResult result = withinBudget("PATCH /api/words/{id}",
+                authorized(patch("/api/words/{id}", wordId.longValue()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"polishWord": "kotek"}"""));
+
+        assertThat(JsonPath.<String>read(result.getResponse().getContentAsString(), "$.polishWord"))
+                .isEqualTo("kotek");
+    }
+
+    @Test
+    void bulkDeleteStaysWithinBudget() throws Exception {
+        MvcResult result = withinBudget("DELETE /api/words",
+                authorized(delete("/api/words").param("all", "true")));
+
+        assertThat(JsonPath.<Integer>read(result.getResponse().getContentAsString(), "$.affected"))
+                .isEqualTo(4);
+    }
+
+    @Test
+    void changesStayWithinBudget() throws Exception {
+        String cursor = JsonPath.read(mockMvc.perform(authorized(get("/api/words/changes")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), "$.cursor");
+        Number wordId = JsonPath.read(mockMvc.perform(authorized(get("/api/words")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), "$[0].id");
+        mockMvc.perform(authorized(patch("/api/words/{id}", wordId.longValue()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"polishWord": "kotek"}"""))
+                .andExpect(status().isOk());
+
+        MvcResult result = withinBudget("GET /api/words/changes",
+                authorized(get("/api/words/changes")).param("since", cursor));
+
+        String content = result.getResponse().getContentAsString();
+        assertThat(JsonPath.<List<String>>read(content, "$.updated[*].polishWord")).containsExactly("kotek");
+        assertThat(JsonPath.<List<Object>>read(content, "$.inserted")).isEmpty();
+        assertThat(JsonPath.<List<Object>>read(content, "$.deleted")).isEmpty();
+    }
+
+    @Test
+    void createBulkWordsStaysWithinBudget() throws Exception {
+        withinBudget("POST /api/words/bulk", authorized(post("/api/words/bulk"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"wordPairs": [
+                          {"polishWord": "chleb", "ukrainianWord": "хліб"},
+                          {"polishWord": "mleko", "ukrainianWord": "молоко"}
+                        ]}"""));
+    }
+
+    @Test
+    void listWordsStaysWithinBudget() throws Exception {
+        withinBudget("GET /api/words", authorized(get("/api/words")));
+    }
+
+    @Test
+    void searchStaysWithinBudget() throws Exception {
+        MvcResult result = withinBudget("GET /api/words/search", authorized(get("/api/words/search")).param("q", "do"));
+        assertThat(JsonPath.<List<String>>read(result.getResponse().getContentAsString(), "$[*].polishWord"))
+                .containsExactly("dom", "woda");
+    }
+
+    @Test
+    void multipleChoiceQuestionStaysWithinBudget() throws Exception {
+        withinBudget("GET /api/quiz/multiple-choice",
+                authorized(get("/api/quiz/multiple-choice").param("questionLanguage", "UKRAINIAN")));
+    }
+
+    @Test
+    void spellCheckStaysWithinBudget() throws Exception {
+        withinBudget("POST /api/quiz/spell-check", authorized(post("/api/quiz/spell-check"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"questionWord": "кіт", "questionLanguage": "UKRAINIAN", "answer": "kot"}"""));
+    }
+
+    @Test
+    void tokenAnswerStaysWithinBudget() throws Exception {
+        MvcResult question = mockMvc.perform(authorized(get("/api/quiz/multiple-choice")))
+                .andExpect(status().isOk())
+                .andReturn();
+        String quizToken = JsonPath.read(question.getResponse().getContentAsString(), "$.token");
+
+        withinBudget("POST /api/quiz/answer", authorized(post("/api/quiz/answer"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"token": "%s", "selectedIndex": 0}""".formatted(quizToken)));
+    }
+
+    @Test
+    void multipleChoiceAnswerStaysWithinBudget() throws Exception {
+        MvcResult words = mockMvc.perform(authorized(get("/api/words")))
+                .andExpect(status().isOk())
+                .andReturn();
+        String content = words.getResponse().getContentAsString();
+        Number wordId = JsonPath.read(content, "$[0].id");
+        String polishWord = JsonPath.read(content, "$[0].polishWord");
+
+        withinBudget("POST /api/quiz/multiple-choice/answer", authorized(post("/api/quiz/multiple-choice/answer"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"questionWordId": %d, "questionLanguage": "UKRAINIAN", "answer": "%s"}"""
+                        .formatted(wordId.longValue(), polishWord)));
+    }
+
+    @Test
+    void statsStayWithinBudget() throws Exception {
+        withinBudget("GET /api/stats", authorized(get("/api/stats")));
+    }
+
+    @Test
+    void leaderboardStaysWithinBudget() throws Exception {
+        withinBudget("GET /api/leaderboard", authorized(get("/api/leaderboard")));
+    }
+
+    @Test
+    void deleteAccountStaysWithinBudgetAndRevokesToken() throws Exception {
+        withinBudget("DELETE /api/account", authorized(delete("/api/account")));
+
+        mockMvc.perform(authorized(get("/api/words")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void revokeSessionsStaysWithinBudgetAndRevokesToken() throws Exception {
+        withinBudget("DELETE /api/account/sessions", authorized(delete("/api/account/sessions")));
+
+        mockMvc.perform(authorized(get("/api/words")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void refreshStaysWithinBudgetAndRotatesToken() throws Exception {
+        String refreshToken = JsonPath.read(mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "%s", "password": "password123"}""".formatted(username)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), "$.refreshToken");
+
+        MvcResult result = withinBudget("POST /auth/refresh", refresh(refreshToken));
+        String rotated = JsonPath.read(result.getResponse().getContentAsString(), "$.refreshToken");
+        String accessToken = JsonPath.read(result.getResponse().getContentAsString(), "$.token");
+
+        assertThat(rotated).isNotEqualTo(refreshToken);
+        mockMvc.perform(get("/api/words").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+        // Replaying a used token revokes its family, including the token it was rotated to
+        mockMvc.perform(refresh(refreshToken))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(refresh(rotated))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void dailyPuzzleStaysWithinBudget() throws Exception {
+        MvcResult result = withinBudget("GET /daily-puzzle", authorized(get("/daily-puzzle")));
+        String etag = result.getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/daily-puzzle").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    private MvcResult withinBudget(String endpoint, MockHttpServletRequestBuilder request) throws Exception {
+        Budget budget = BUDGETS.get(endpoint);
+        assertThat(budget).as("No query budget declared for %s", endpoint).isNotNull();
+
+        QueryCounter.reset();
+        MvcResult result = mockMvc.perform(request).andReturn();
+        QueryCounter.Snapshot used = QueryCounter.snapshot();
+
+        assertThat(result.getResponse().getStatus())
+                .as("%s response: %s", endpoint, result.getResponse().getContentAsString())
+                .isBetween(200, 299);
+        assertThat(used.statements())
+                .as("%s SQL statements (budget %d)", endpoint, budget.statements())
+                .isLessThanOrEqualTo(budget.statements());
+        assertThat(used.rows())
+                .as("%s rows fetched (budget %d)", endpoint, budget.rows())
+                .isLessThanOrEqualTo(budget.rows());
+        return result;
+    }
+
+    private static MockHttpServletRequestBuilder refresh(String refreshToken) {
+        return post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"refreshToken": "%s"}""".formatted(refreshToken));
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + token);
+    }
+
+    private String signup(String name) throws Exception {
+        MvcResult result = mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(signupBody(name)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.token");
+    }
+
+    private static String signupBody(String name) {
+        return """
+                {"username": "%s", "email": "%s@example.com", "password": "password123"}"""
+                .formatted(name, name);
+    }
+}
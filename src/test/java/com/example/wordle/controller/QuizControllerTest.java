@@ -0,0 +1,89 @@
+package com.example.wordle.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs against the test database, so spell checks go through the real
+ * {@code word_terms} lookup.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties")
+class QuizControllerTest {
+
+    private static final AtomicInteger USER_SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String username = "quiz" + USER_SEQUENCE.incrementAndGet();
+        MvcResult signup = mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "%s", "email": "%s@example.com", "password": "password123"}"""
+                                .formatted(username, username)))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = JsonPath.read(signup.getResponse().getContentAsString(), "$.token");
+    }
+
+    @Test
+    void shouldFindUpdatedWordThroughItsTermsWhenSpellChecking() throws Exception {
+        // Given
+        MvcResult created = mockMvc.perform(authorized(post("/api/words"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"polishWord": "kot", "ukrainianWord": "кіт"}"""))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Number wordId = JsonPath.read(created.getResponse().getContentAsString(), "$.id");
+        mockMvc.perform(authorized(patch("/api/words/{id}", wordId.longValue()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"polishWord": "kotek", "ukrainianWord": "кошеня"}"""))
+                .andExpect(status().isOk());
+
+        // When & Then
+        mockMvc.perform(authorized(post("/api/quiz/spell-check"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"questionWord": "Kotek", "questionLanguage": "POLISH", "answer": "кошеня"}"""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.correct").value(true));
+        mockMvc.perform(authorized(post("/api/quiz/spell-check"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"questionWord": "кошеня", "questionLanguage": "UKRAINIAN", "answer": "kotek"}"""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.correct").value(true));
+        // The old forms were replaced, not kept next to the new ones
+        mockMvc.perform(authorized(post("/api/quiz/spell-check"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"questionWord": "кіт", "questionLanguage": "UKRAINIAN", "answer": "kotek"}"""))
+                .andExpect(status().isNotFound());
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + token);
+    }
+}
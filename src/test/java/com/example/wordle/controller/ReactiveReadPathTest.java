@@ -0,0 +1,124 @@
+package com.example.wordle.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Both datasources point at the same H2 in-memory database: JPA creates the
+ * schema and writes, R2DBC serves the two reactive reads.
+ */
+@SpringBootTest(properties = {
+        "quiz.read-path=reactive",
+        "spring.datasource.url=jdbc:h2:mem:reactive_read;DB_CLOSE_DELAY=-1",
+        "quiz.r2dbc.url=r2dbc:h2:mem:///reactive_read?options=DB_CLOSE_DELAY=-1",
+        "quiz.r2dbc.username=sa",
+        "quiz.r2dbc.password="
+})
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties")
+class ReactiveReadPathTest {
+
+    private static final AtomicInteger USER_SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String username = "reactive" + USER_SEQUENCE.incrementAndGet();
+        MvcResult signup = mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "%s", "email": "%s@example.com", "password": "password123"}"""
+                                .formatted(username, username)))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = JsonPath.read(signup.getResponse().getContentAsString(), "$.token");
+    }
+
+    @Test
+    void shouldListWordsReactively() throws Exception {
+        // Given
+        addWords(4);
+
+        // When
+        MvcResult started = mockMvc.perform(get("/api/words").header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andExpect(jsonPath("$[0].polishWord").value("kot"));
+    }
+
+    @Test
+    void shouldGenerateQuestionReactively() throws Exception {
+        // Given
+        addWords(4);
+
+        // When
+        MvcResult started = mockMvc.perform(get("/api/quiz/multiple-choice")
+                        .param("questionLanguage", "UKRAINIAN")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.options", hasSize(4)))
+                .andExpect(jsonPath("$.token", notNullValue()));
+    }
+
+    @Test
+    void shouldRejectQuestionWithTooFewWords() throws Exception {
+        // Given
+        addWords(2);
+
+        // When
+        MvcResult started = mockMvc.perform(get("/api/quiz/multiple-choice")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Need at least 4 word pairs to generate a quiz"));
+    }
+
+    private void addWords(int count) throws Exception {
+        String[][] words = {{"kot", "кіт"}, {"pies", "собака"}, {"dom", "будинок"}, {"woda", "вода"}};
+        StringBuilder body = new StringBuilder("{\"wordPairs\": [");
+        for (int i = 0; i < count; i++) {
+            body.append(i == 0 ? "" : ",")
+                    .append("{\"polishWord\": \"").append(words[i][0])
+                    .append("\", \"ukrainianWord\": \"").append(words[i][1]).append("\"}");
+        }
+        body.append("]}");
+        mockMvc.perform(post("/api/words/bulk")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.toString()))
+                .andExpect(status().isCreated());
+    }
+}
@@ -2,24 +2,44 @@ package com.example.wordle.controller;
 
 import com.example.wordle.dto.BulkWordRequest;
 import com.example.wordle.dto.BulkWordResponse;
+import com.example.wordle.dto.ExportFormat;
+import com.example.wordle.dto.WordChangeResponse;
 import com.example.wordle.dto.WordPairDTO;
+import com.example.wordle.dto.WordSelection;
+import com.example.wordle.security.AuthenticatedUser;
 import com.example.wordle.security.JwtAuthenticationFilter;
+import com.example.wordle.service.IdempotencyService;
+import com.example.wordle.service.WordExportService;
+import com.example.wordle.service.WordSearchService;
 import com.example.wordle.service.WordService;
+import com.example.wordle.service.WordSyncService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import tools.jackson.databind.ObjectMapper;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -37,12 +57,35 @@ class WordControllerTest {
     @MockitoBean
     private WordService wordService;
 
+    @MockitoBean
+    private WordExportService wordExportService;
+
+    @MockitoBean
+    private WordSearchService wordSearchService;
+
+    @MockitoBean
+    private WordSyncService wordSyncService;
+
+    @MockitoBean
+    private IdempotencyService idempotencyService;
+
     @MockitoBean
     private JwtAuthenticationFilter jwtAuthFilter;
 
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @BeforeEach
+    void runWithoutIdempotencyKey() {
+        when(idempotencyService.execute(isNull(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<ResponseEntity<?>>>getArgument(3).get());
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void shouldCreateWordPair() throws Exception {
         // Given
@@ -164,4 +207,38 @@ class WordControllerTest {
                 .andExpect(jsonPath("$[0].correctCount").value(5))
                 .andExpect(jsonPath("$[1].polishWord").value("pies"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldStreamExportAsAttachment() throws Exception {
+        // Given
+        AuthenticatedUser user = new AuthenticatedUser(7L, "john", "", List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        when(wordExportService.export(eq(7L), eq(ExportFormat.CSV), eq(false), any(OutputStream.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<OutputStream>getArgument(3).write("id,polish_word\n1,kot\n".getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        // When & Then
+        mockMvc.perform(get("/api/words/export").param("format", "CSV"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"words.csv\""))
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string("id,polish_word\n1,kot\n"));
+    }
+
+    @Test
+    void shouldDeleteSelectedWordPairs() throws Exception {
+        // Given
+        when(wordService.deleteWordPairs(any(WordSelection.class)))
+                .thenReturn(WordChangeResponse.builder().affected(3).build());
+
+        // When & Then
+        mockMvc.perform(delete("/api/words").param("ids", "1,2,3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(3));
+        verify(wordService).deleteWordPairs(argThat(selection -> selection.getIds().equals(List.of(1L, 2L, 3L))));
+    }
+}
+
@@ -1,9 +1,12 @@
 package com.example.wordle.repository;
 
+import com.example.wordle.entity.Language;
 import com.example.wordle.entity.User;
 import com.example.wordle.entity.WordPair;
+import com.example.wordle.repository.projection.WordPairView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.test.context.TestPropertySource;
@@ -23,6 +26,12 @@ class WordPairRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private WordTermRepository wordTermRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private User testUser;
 
     @BeforeEach
@@ -193,4 +202,173 @@ class WordPairRepositoryTest {
         assertThat(testUserWords).hasSize(1);
         assertThat(testUserWords.get(0).getPolishWord()).isEqualTo("kot");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldFindWordPairOnlyForItsOwner() {
+        // Given
+        User anotherUser = userRepository.save(User.builder()
+                .username("another")
+                .email("another@example.com")
+                .password("asd123F")
+                .build());
+        WordPair wordPair = wordPairRepository.save(WordPair.builder()
+                .polishWord("kot")
+                .ukrainianWord("кіт")
+                .user(testUser)
+                .build());
+
+        // When
+        Optional<WordPair> own = wordPairRepository.findByIdAndUserId(wordPair.getId(), testUser.getId());
+        Optional<WordPair> foreign = wordPairRepository.findByIdAndUserId(wordPair.getId(), anotherUser.getId());
+
+        // Then
+        assertThat(own).isPresent();
+        assertThat(foreign).isEmpty();
+    }
+
+    @Test
+    void shouldAddAnswerCountsInPlace() {
+        // Given
+        WordPair wordPair = wordPairRepository.save(WordPair.builder()
+                .polishWord("kot")
+                .ukrainianWord("кіт")
+                .user(testUser)
+                .build());
+
+        // When
+        wordPairRepository.addAnswerCounts(wordPair.getId(), 1, 0);
+        wordPairRepository.addAnswerCounts(wordPair.getId(), 0, 1);
+        wordPairRepository.addAnswerCounts(wordPair.getId(), 1, 0);
+        entityManager.clear();
+
+        // Then
+        WordPair updated = wordPairRepository.findById(wordPair.getId()).orElseThrow();
+        assertThat(updated.getCorrectCount()).isEqualTo(2);
+        assertThat(updated.getIncorrectCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadViewsWithoutManagingEntities() {
+        // Given
+        wordPairRepository.save(WordPair.builder()
+                .polishWord("kot")
+                .ukrainianWord("кіт")
+                .user(testUser)
+                .build());
+        wordPairRepository.save(WordPair.builder()
+                .polishWord("pies")
+                .ukrainianWord("собака")
+                .user(testUser)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<WordPairView> views = wordPairRepository.findViewsByUserId(testUser.getId());
+
+        // Then
+        assertThat(views).extracting(WordPairView::polishWord).containsExactly("kot", "pies");
+        assertThat(views).extracting(WordPairView::correctCount).containsOnly(0);
+        assertThat(entityManager.getEntityManagerFactory().getPersistenceUnitUtil()
+                .isLoaded(entityManager.getReference(WordPair.class, views.get(0).id())))
+                .isFalse();
+    }
+
+    @Test
+    void shouldInsertOnlyPairsTheUserDoesNotHave() {
+        // Given
+        wordPairRepository.save(WordPair.builder()
+                .polishWord("Kot")
+                .ukrainianWord("кіт")
+                .user(testUser)
+                .build());
+
+        // When
+        List<WordPairView> first = wordPairRepository.insertIfAbsent(testUser.getId(), List.of(
+                WordPair.builder().polishWord("kot ").ukrainianWord("Кіт").build(),
+                WordPair.builder().polishWord("pies").ukrainianWord("собака").build()));
+        List<WordPairView> second = wordPairRepository.insertIfAbsent(testUser.getId(), List.of(
+                WordPair.builder().polishWord("pies").ukrainianWord("собака").build()));
+
+        // Then
+        assertThat(first).extracting(WordPairView::polishWord).containsExactly("pies");
+        assertThat(first.get(0).id()).isNotNull();
+        assertThat(second).isEmpty();
+        assertThat(wordPairRepository.countByUserId(testUser.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFindInsertedPairsByTermInEitherLanguage() {
+        // Given
+        wordPairRepository.insertIfAbsent(testUser.getId(), List.of(
+                WordPair.builder().polishWord("Zamek").ukrainianWord("замок").build(),
+                WordPair.builder().polishWord("zamek").ukrainianWord("фортеця").build(),
+                WordPair.builder().polishWord("pies").ukrainianWord("собака").build()));
+
+        // When
+        List<WordPair> byPolish = wordTermRepository.findPairsByTerm(testUser.getId(), Language.POLISH, "zamek");
+        List<WordPair> byUkrainian = wordTermRepository.findPairsByTerm(testUser.getId(), Language.UKRAINIAN, "собака");
+        List<WordPair> wrongLanguage = wordTermRepository.findPairsByTerm(testUser.getId(), Language.UKRAINIAN, "pies");
+
+        // Then
+        assertThat(byPolish).extracting(WordPair::getUkrainianWord).containsExactly("замок", "фортеця");
+        assertThat(byUkrainian).extracting(pair -> pair.getWord(Language.POLISH)).containsExactly("pies");
+        assertThat(wrongLanguage).isEmpty();
+    }
+
+    @Test
+    void shouldDeleteSelectedPairsAndTheirTermsInOneStatement() {
+        // Given
+        List<WordPairView> pairs = wordPairRepository.insertIfAbsent(testUser.getId(), List.of(
+                WordPair.builder().polishWord("kot").ukrainianWord("кіт").build(),
+                WordPair.builder().polishWord("pies").ukrainianWord("собака").build(),
+                WordPair.builder().polishWord("dom").ukrainianWord("будинок").build()));
+
+        // When
+        int deleted = wordPairRepository.deleteMatching(testUser.getId(),
+                new WordCriteria(List.of(pairs.get(0).id(), pairs.get(1).id(), -1L), null, null));
+
+        // Then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(wordPairRepository.findViewsByUserId(testUser.getId()))
+                .extracting(WordPairView::polishWord).containsExactly("dom");
+        assertThat(wordTermRepository.findPairsByTerm(testUser.getId(), Language.POLISH, "kot")).isEmpty();
+        assertThat(wordTermRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldUpdateWordsAndTermsOfOwnPairOnly() {
+        // Given
+        Long id = wordPairRepository.insertIfAbsent(testUser.getId(), List.of(
+                WordPair.builder().polishWord("kot").ukrainianWord("кіт").build())).get(0).id();
+
+        // When
+        int foreign = wordPairRepository.updateWords(testUser.getId() + 1, id, "pies", null);
+        int own = wordPairRepository.updateWords(testUser.getId(), id, "Kotek", null);
+
+        // Then
+        assertThat(foreign).isZero();
+        assertThat(own).isEqualTo(1);
+        assertThat(wordTermRepository.findPairsByTerm(testUser.getId(), Language.POLISH, "kotek"))
+                .extracting(WordPair::getUkrainianWord).containsExactly("кіт");
+        assertThat(wordTermRepository.findPairsByTerm(testUser.getId(), Language.UKRAINIAN, "кіт"))
+                .extracting(WordPair::getPolishWord).containsExactly("Kotek");
+    }
+
+    @Test
+    void shouldDeletePairsWithTheirUserInTheDatabase() {
+        // Given
+        wordPairRepository.insertIfAbsent(testUser.getId(), List.of(
+                WordPair.builder().polishWord("kot").ukrainianWord("кіт").build()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        userRepository.deleteById(testUser.getId());
+        entityManager.flush();
+
+        // Then
+        assertThat(wordPairRepository.countByUserId(testUser.getId())).isZero();
+        assertThat(wordTermRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.wordle.security;
+
+import com.example.wordle.exception.BadRequestException;
+import com.example.wordle.exception.ConflictException;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuizTokenSignerTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final QuizTokenSigner signer = new QuizTokenSigner(SECRET, 600);
+
+    @Test
+    void shouldRoundTripQuestion() {
+        // Given
+        String token = signer.issue(7L, 42L, true, 3);
+
+        // When
+        QuizTokenSigner.QuizToken question = signer.redeem(token, 7L);
+
+        // Then
+        assertThat(question.wordPairId()).isEqualTo(42L);
+        assertThat(question.answerInPolish()).isTrue();
+        assertThat(question.correctIndex()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRejectTamperedToken() {
+        // Given
+        char[] token = signer.issue(7L, 42L, false, 1).toCharArray();
+        token[12] = token[12] == 'A' ? 'B' : 'A';
+
+        // When & Then
+        assertThatThrownBy(() -> signer.redeem(new String(token), 7L))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void shouldRejectTokenOfAnotherUser() {
+        // Given
+        String token = signer.issue(7L, 42L, false, 1);
+
+        // When & Then
+        assertThatThrownBy(() -> signer.redeem(token, 8L))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void shouldRejectExpiredToken() {
+        // Given
+        QuizTokenSigner expiring = new QuizTokenSigner(SECRET, -1);
+        String token = expiring.issue(7L, 42L, false, 1);
+
+        // When & Then
+        assertThatThrownBy(() -> expiring.redeem(token, 7L))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void shouldRejectSecondAnswer() {
+        // Given
+        String token = signer.issue(7L, 42L, false, 1);
+        signer.redeem(token, 7L);
+
+        // When & Then
+        assertThatThrownBy(() -> signer.redeem(token, 7L))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void shouldNotSignWithRawSecret() throws Exception {
+        // Given
+        byte[] token = Base64.getUrlDecoder().decode(signer.issue(7L, 42L, false, 1));
+        int payloadLength = token.length - 16;
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        mac.update(token, 0, payloadLength);
+        System.arraycopy(mac.doFinal(), 0, token, payloadLength, 16);
+
+        // When & Then
+        assertThatThrownBy(() -> signer.redeem(Base64.getUrlEncoder().withoutPadding().encodeToString(token), 7L))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void shouldDeriveKeyAsSpecifiedByRfc5869() {
+        // Given: test case 1 of RFC 5869, first 32 bytes of the output
+        byte[] inputKey = new byte[22];
+        Arrays.fill(inputKey, (byte) 0x0b);
+        byte[] salt = HexFormat.of().parseHex("000102030405060708090a0b0c");
+        byte[] info = HexFormat.of().parseHex("f0f1f2f3f4f5f6f7f8f9");
+
+        // When
+        byte[] key = QuizTokenSigner.hkdf(salt, inputKey, info);
+
+        // Then
+        assertThat(HexFormat.of().formatHex(key))
+                .isEqualTo("3cb25f25faacd57a90434f64d0362f2a2d2d0a90cf1a5a4c5db02d56ecc4c5bf");
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.wordle.security;
+
+import com.example.wordle.entity.TokenRevocation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationRegistryTest {
+
+    private static final long ACCESS_TOKEN_TTL_MS = 900_000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JdbcTemplate jdbcTemplate;
+    private TokenRevocationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(
+                new DriverManagerDataSource("jdbc:h2:mem:revocations;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS token_revocations (
+                    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    user_id bigint NOT NULL,
+                    token_version integer NOT NULL,
+                    revoked_at timestamp(6) NOT NULL)""");
+        jdbcTemplate.update("DELETE FROM token_revocations");
+        registry = new TokenRevocationRegistry(jdbcTemplate, meterRegistry, ACCESS_TOKEN_TTL_MS, 10_000);
+    }
+
+    @Test
+    void shouldRevokeTokensBelowLatestVersion() {
+        // Given
+        registry.revokeAfterCommit(7L, 1, TokenRevocation.now());
+        registry.revokeAfterCommit(7L, 3, TokenRevocation.now());
+
+        // When
+        registry.revokeAfterCommit(7L, 2, TokenRevocation.now());
+
+        // Then
+        assertThat(registry.isRevoked(7L, 2)).isTrue();
+        assertThat(registry.isRevoked(7L, 3)).isFalse();
+        assertThat(registry.isRevoked(8L, 0)).isFalse();
+    }
+
+    @Test
+    void shouldPickUpRevocationsFromOtherInstances() {
+        // Given
+        registry.syncNow();
+        log(7L, 1, TokenRevocation.now());
+        // Committed late by an instance whose clock runs a few seconds behind
+        log(8L, 1, TokenRevocation.now().minusSeconds(5));
+
+        // When
+        registry.syncNow();
+
+        // Then
+        assertThat(registry.isRevoked(7L, 0)).isTrue();
+        assertThat(registry.isRevoked(8L, 0)).isTrue();
+        assertThat(meterRegistry.get("auth.revoked_users").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldForgetRevocationsOnceTokensExpired() {
+        // Given
+        log(7L, 1, TokenRevocation.now().minusHours(1));
+        registry.revokeAfterCommit(8L, 1, TokenRevocation.now().minusHours(1));
+
+        // When
+        registry.syncNow();
+
+        // Then
+        assertThat(registry.isRevoked(7L, 0)).isFalse();
+        assertThat(registry.isRevoked(8L, 0)).isFalse();
+    }
+
+    private void log(long userId, int version, LocalDateTime revokedAt) {
+        jdbcTemplate.update("INSERT INTO token_revocations (user_id, token_version, revoked_at) VALUES (?, ?, ?)",
+                userId, version, Timestamp.valueOf(revokedAt));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.wordle.service;
+
+import com.example.wordle.entity.User;
+import com.example.wordle.entity.WordPair;
+import com.example.wordle.repository.UserRepository;
+import com.example.wordle.repository.WordPairRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "account-purge.chunk-size=2",
+        "account-purge.interval-ms=3600000"
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+class AccountPurgeJobTest {
+
+    @Autowired
+    private AccountPurgeJob accountPurgeJob;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WordPairRepository wordPairRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void purgeLeftovers() {
+        // Accounts closed by other tests sharing the database would be purged first
+        while (accountPurgeJob.purgeNextChunk()) {
+            // drain
+        }
+    }
+
+    @Test
+    void shouldPurgeClosedAccountInBoundedChunksAndKeepOthers() {
+        // Given
+        Long closed = createUserWithWords("closing", 3);
+        Long kept = createUserWithWords("staying", 3);
+        jdbcTemplate.update("""
+                INSERT INTO answer_events (user_id, word_pair_id, correct, answered_at)
+                SELECT user_id, id, TRUE, LOCALTIMESTAMP FROM word_pairs WHERE user_id = ?""", closed);
+        close(closed);
+
+        // When
+        int runs = 0;
+        while (accountPurgeJob.purgeNextChunk()) {
+            runs++;
+        }
+
+        // Then
+        // 3 answer events, 6 terms and 3 pairs in chunks of 2, then the account itself
+        assertThat(runs).isEqualTo(2 + 3 + 2 + 1);
+        assertThat(userRepository.existsById(closed)).isFalse();
+        assertThat(count("answer_events", closed)).isZero();
+        assertThat(count("word_terms", closed)).isZero();
+        assertThat(wordPairRepository.countByUserId(kept)).isEqualTo(3);
+        assertThat(count("word_terms", kept)).isEqualTo(6);
+    }
+
+    @Test
+    void shouldResumeAfterInterruptedPurge() {
+        // Given
+        Long closed = createUserWithWords("interrupted", 5);
+        close(closed);
+        accountPurgeJob.purgeNextChunk();
+
+        // When
+        while (accountPurgeJob.purgeNextChunk()) {
+            // keep going, as the next scheduled runs would
+        }
+
+        // Then
+        assertThat(userRepository.existsById(closed)).isFalse();
+        assertThat(wordPairRepository.countByUserId(closed)).isZero();
+    }
+
+    private Long createUserWithWords(String username, int words) {
+        Long userId = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password")
+                .build()).getId();
+        List<WordPair> pairs = new ArrayList<>();
+        for (int i = 0; i < words; i++) {
+            pairs.add(WordPair.builder().polishWord("słowo" + i).ukrainianWord("слово" + i).build());
+        }
+        wordPairRepository.insertIfAbsent(userId, pairs);
+        return userId;
+    }
+
+    private void close(Long userId) {
+        jdbcTemplate.update("UPDATE users SET deleted_at = LOCALTIMESTAMP WHERE id = ?", userId);
+    }
+
+    private long count(String table, Long userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE user_id = ?", Long.class, userId);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.wordle.service;
+
+import com.example.wordle.repository.WordPairRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnswerCounterBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private WordPairRepository wordPairRepository;
+
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Mock
+    private QuizReadCircuitBreaker quizReadCircuitBreaker;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldAddAggregatedCountersPerWordOnFlush() {
+        // Given
+        AnswerCounterBuffer buffer = newBuffer(100, 100);
+        buffer.record(1L, 10L, true);
+        buffer.record(1L, 10L, false);
+        buffer.record(1L, 11L, true);
+
+        // When
+        buffer.flush();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE word_pairs"), rows.capture());
+        assertThat(rows.getValue()).containsExactly(new Object[]{1, 1, 10L}, new Object[]{1, 0, 11L});
+        verify(wordPairRepository).logCounterChanges(Set.of(10L, 11L));
+        assertThat(buffer.buffered()).isZero();
+    }
+
+    @Test
+    void shouldNotTouchDatabaseUntilFlushed() {
+        // Given
+        AnswerCounterBuffer buffer = newBuffer(100, 100);
+
+        // When
+        buffer.record(1L, 10L, true);
+
+        // Then
+        verifyNoInteractions(jdbcTemplate, wordPairRepository, userStatsService);
+        assertThat(buffer.buffered()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldApplyOnCallerThreadWhenFull() {
+        // Given
+        AnswerCounterBuffer buffer = newBuffer(1, 100);
+        buffer.record(1L, 10L, true);
+
+        // When
+        buffer.record(1L, 11L, false);
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE word_pairs"), anyList());
+        assertThat(buffer.buffered()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepAnswersWhoseCountersCannotBeWritten() {
+        // Given
+        AnswerCounterBuffer buffer = newBuffer(100, 100);
+        buffer.record(1L, 10L, true);
+        buffer.record(1L, 11L, false);
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE word_pairs"), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertThat(buffer.buffered()).isEqualTo(2);
+        verifyNoInteractions(wordPairRepository, userStatsService);
+    }
+
+    @Test
+    void shouldRollBackCountersWhenChangeLogFailsAndReplayThemOnce() {
+        // Given
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:answer-counters;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate database = new JdbcTemplate(dataSource);
+        database.execute("DROP TABLE IF EXISTS word_pairs");
+        database.execute("CREATE TABLE word_pairs (id bigint PRIMARY KEY, correct_count integer, incorrect_count integer)");
+        database.update("INSERT INTO word_pairs VALUES (10, 0, 0)");
+        AnswerCounterBuffer buffer = new AnswerCounterBuffer(database, wordPairRepository, userStatsService,
+                quizReadCircuitBreaker, new TransactionTemplate(new DataSourceTransactionManager(dataSource)), 100, 100);
+        doThrow(new DataAccessResourceFailureException("connection reset"))
+                .doNothing()
+                .when(wordPairRepository).logCounterChanges(Set.of(10L));
+        buffer.record(1L, 10L, true);
+
+        // When
+        buffer.flush();
+        Integer afterFailure = database.queryForObject("SELECT correct_count FROM word_pairs WHERE id = 10", Integer.class);
+        buffer.flush();
+
+        // Then
+        assertThat(afterFailure).isZero();
+        assertThat(database.queryForObject("SELECT correct_count FROM word_pairs WHERE id = 10", Integer.class))
+                .isEqualTo(1);
+        assertThat(buffer.buffered()).isZero();
+        verify(userStatsService).recordAnswer(1L, 10L, true, 1, 0);
+    }
+
+    @Test
+    void shouldHoldAnswersWhileQuizReadsAreDegraded() {
+        // Given
+        AnswerCounterBuffer buffer = newBuffer(1, 100);
+        when(quizReadCircuitBreaker.isOpen()).thenReturn(true);
+        buffer.record(1L, 10L, true);
+
+        // When
+        buffer.record(1L, 11L, false);
+        buffer.flush();
+
+        // Then
+        verifyNoInteractions(jdbcTemplate, wordPairRepository, userStatsService);
+        assertThat(buffer.buffered()).isEqualTo(1);
+    }
+
+    private AnswerCounterBuffer newBuffer(int capacity, int batchSize) {
+        return new AnswerCounterBuffer(jdbcTemplate, wordPairRepository, userStatsService, quizReadCircuitBreaker,
+                new TransactionTemplate(transactionManager), capacity, batchSize);
+    }
+}
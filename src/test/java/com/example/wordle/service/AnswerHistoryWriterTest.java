@@ -0,0 +1,198 @@
+package com.example.wordle.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnswerHistoryWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldWriteBufferedEventsInBatches() {
+        // Given
+        AnswerHistoryWriter writer = new AnswerHistoryWriter(
+                jdbcTemplate, transactionManager, meterRegistry, 100, 2, AnswerHistoryWriter.OverflowPolicy.DROP, 3);
+        writer.record(1L, 10L, true, "kot", 1200L);
+        writer.record(1L, 11L, false, "pies", null);
+        writer.record(1L, 12L, true, "dom", 800L);
+
+        // When
+        writer.flush();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        assertThat(writer.buffered()).isZero();
+        assertThat(meterRegistry.get("answer_history.events").tag("outcome", "written").counter().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotTouchDatabaseUntilFlushed() {
+        // Given
+        AnswerHistoryWriter writer = new AnswerHistoryWriter(
+                jdbcTemplate, transactionManager, meterRegistry, 100, 10, AnswerHistoryWriter.OverflowPolicy.DROP, 3);
+
+        // When
+        writer.record(1L, 10L, true, "kot", null);
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(writer.buffered()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropEventsWhenBufferIsFull() {
+        // Given
+        AnswerHistoryWriter writer = new AnswerHistoryWriter(
+                jdbcTemplate, transactionManager, meterRegistry, 1, 10, AnswerHistoryWriter.OverflowPolicy.DROP, 3);
+
+        // When
+        writer.record(1L, 10L, true, "kot", null);
+        writer.record(1L, 11L, true, "pies", null);
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(writer.buffered()).isEqualTo(1);
+        assertThat(meterRegistry.get("answer_history.events").tag("outcome", "dropped").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldWriteThroughWhenBufferIsFullAndPolicyRequiresIt() {
+        // Given
+        AnswerHistoryWriter writer = new AnswerHistoryWriter(
+                jdbcTemplate, transactionManager, meterRegistry, 1, 10, AnswerHistoryWriter.OverflowPolicy.WRITE_THROUGH, 3);
+
+        // When
+        writer.record(1L, 10L, true, "kot", null);
+        writer.record(1L, 11L, true, "pies", null);
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+        assertThat(writer.buffered()).isEqualTo(1);
+        assertThat(meterRegistry.get("answer_history.events").tag("outcome", "write_through").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldRetryFailedBatchOnNextFlush() {
+        // Given
+        AnswerHistoryWriter writer = new AnswerHistoryWriter(
+                jdbcTemplate, transactionManager, meterRegistry, 100, 10, AnswerHistoryWriter.OverflowPolicy.DROP, 3);
+        writer.record(1L, 10L, true, "kot", null);
+        writer.record(1L, 11L, false, "pies", null);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"))
+                .thenReturn(new int[]{1, 1});
+        writer.flush();
+        assertThat(writer.buffered()).isEqualTo(2);
+
+        // When
+        writer.flush();
+
+        // Then
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        assertThat(writer.buffered()).isZero();
+        assertThat(meterRegistry.get("answer_history.events").tag("outcome", "written").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        // Given
+        AnswerHistoryWriter writer = new AnswerHistoryWriter(
+                jdbcTemplate, transactionManager, meterRegistry, 100, 10, AnswerHistoryWriter.OverflowPolicy.DROP, 3);
+        writer.record(1L, 10L, true, "kot", null);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            writer.flush();
+        }
+
+        // Then
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyList());
+        assertThat(writer.buffered()).isZero();
+        assertThat(meterRegistry.get("answer_history.events").tag("outcome", "failed").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldBufferOnlyOnceTransactionCommits() {
+        // Given
+        AnswerHistoryWriter writer = new AnswerHistoryWriter(
+                jdbcTemplate, transactionManager, meterRegistry, 100, 10, AnswerHistoryWriter.OverflowPolicy.DROP, 3);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            writer.record(1L, 10L, true, "kot", null);
+            assertThat(writer.buffered()).isZero();
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(writer.buffered()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLeaveNoRowsOfFailedBatchBehind() {
+        // Given
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:answer-history;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate database = new JdbcTemplate(dataSource);
+        database.execute("DROP TABLE IF EXISTS answer_events");
+        database.execute("""
+                CREATE TABLE answer_events (
+                    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    user_id bigint NOT NULL,
+                    word_pair_id bigint NOT NULL,
+                    correct boolean NOT NULL,
+                    answer varchar(255),
+                    latency_ms bigint,
+                    answered_at timestamp(6) NOT NULL)""");
+        AnswerHistoryWriter writer = new AnswerHistoryWriter(database, new DataSourceTransactionManager(dataSource),
+                meterRegistry, 100, 10, AnswerHistoryWriter.OverflowPolicy.DROP, 3);
+        writer.record(1L, 10L, true, "kot", null);
+        // Fails on the second row of the batch, after the first was sent
+        writer.record(1L, null, false, "pies", null);
+
+        // When
+        writer.flush();
+
+        // Then
+        assertThat(database.queryForObject("SELECT count(*) FROM answer_events", Integer.class)).isZero();
+        assertThat(writer.buffered()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.wordle.service;
+
+import com.example.wordle.WordleApplication;
+import com.example.wordle.entity.User;
+import com.example.wordle.entity.WordPair;
+import com.example.wordle.repository.UserRepository;
+import com.example.wordle.repository.WordPairRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs two application instances against the Postgres database configured by
+ * {@code DB_URL}, {@code DB_USER} and {@code DB_PASSWORD}, e.g.
+ * {@code DB_URL=jdbc:postgresql://localhost:5432/wordle_db ./gradlew test}.
+ */
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = "jdbc:postgresql:.*")
+class CacheInvalidationListenerTest {
+
+    private static ConfigurableApplicationContext first;
+    private static ConfigurableApplicationContext second;
+
+    private Long userId;
+
+    @BeforeAll
+    static void startInstances() {
+        first = startInstance();
+        second = startInstance();
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        if (first != null) {
+            first.close();
+        }
+        if (second != null) {
+            second.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        User user = first.getBean(UserRepository.class).save(User.builder()
+                .username("inval-" + UUID.randomUUID())
+                .email(UUID.randomUUID() + "@example.com")
+                .password("asd123F")
+                .build());
+        userId = user.getId();
+        for (String word : new String[]{"kot", "pies", "dom", "woda"}) {
+            first.getBean(WordPairRepository.class).save(WordPair.builder()
+                    .polishWord(word)
+                    .ukrainianWord(word)
+                    .user(user)
+                    .build());
+        }
+        // The initial flush after LISTEN would otherwise race with the cache loads below
+        assertThat(eventually(() -> first.getBean(CacheInvalidationListener.class).isListening())).isTrue();
+        assertThat(eventually(() -> second.getBean(CacheInvalidationListener.class).isListening())).isTrue();
+        first.getBean(VocabularyCache.class).get(userId);
+        second.getBean(VocabularyCache.class).get(userId);
+    }
+
+    @Test
+    void shouldEvictOnOtherInstanceAfterCommit() throws InterruptedException {
+        // When
+        write(first, false);
+
+        // Then
+        VocabularyCache remote = second.getBean(VocabularyCache.class);
+        assertThat(eventually(() -> !remote.isCached(userId))).isTrue();
+        assertThat(first.getBean(VocabularyCache.class).isCached(userId)).isFalse();
+    }
+
+    @Test
+    void shouldNotEvictOnOtherInstanceWhenWriteRollsBack() throws InterruptedException {
+        // When
+        write(first, true);
+
+        // Then
+        VocabularyCache remote = second.getBean(VocabularyCache.class);
+        assertThat(eventually(() -> !remote.isCached(userId))).isFalse();
+    }
+
+    private void write(ConfigurableApplicationContext instance, boolean rollback) {
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(instance.getBean(PlatformTransactionManager.class));
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = instance.getBean(UserRepository.class).getReferenceById(userId);
+            instance.getBean(WordPairRepository.class).save(WordPair.builder()
+                    .polishWord("chleb")
+                    .ukrainianWord("хліб")
+                    .user(user)
+                    .build());
+            instance.getBean(VocabularyCache.class).evictAfterCommit(userId);
+            if (rollback) {
+                status.setRollbackOnly();
+            }
+        });
+    }
+
+    private static ConfigurableApplicationContext startInstance() {
+        return new SpringApplicationBuilder(WordleApplication.class).run(
+                "--server.port=0",
+                "--cache.invalidation.enabled=true",
+                "--cache.invalidation.poll-timeout-ms=200",
+                "--cache.invalidation.reconnect-delay-ms=200");
+    }
+
+    private static boolean eventually(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 3_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.DailyGuessResultDTO;
+import com.example.wordle.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.wordle.dto.LetterFeedback.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DailyPuzzleServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Warsaw");
+
+    private static final List<String[]> WORDS = List.of(
+            new String[]{"kwiat", "квітка"},
+            new String[]{"droga", "дорога"},
+            new String[]{"morze", "море"},
+            new String[]{"rzeka", "річка"},
+            new String[]{"kolor", "колір"});
+
+    @Test
+    void shouldPickSameTargetOnEveryInstance() {
+        // Given
+        DailyPuzzleService first = new DailyPuzzleService(WORDS, 42L, at(LocalDate.of(2026, 3, 14)));
+        DailyPuzzleService second = new DailyPuzzleService(List.of(WORDS.get(4), WORDS.get(2), WORDS.get(0),
+                WORDS.get(3), WORDS.get(1)), 42L, at(LocalDate.of(2026, 3, 14)));
+
+        // When
+        DailyPuzzleService.Puzzle puzzle = first.current();
+
+        // Then
+        assertThat(second.current().target()).isEqualTo(puzzle.target());
+        assertThat(second.current().body()).isEqualTo(puzzle.body());
+        assertThat(puzzle.number()).isEqualTo(73);
+    }
+
+    @Test
+    void shouldNotRepeatTargetWithinOneCycle() {
+        // Given
+        Set<String> targets = new HashSet<>();
+
+        // When
+        for (int day = 0; day < WORDS.size(); day++) {
+            LocalDate date = LocalDate.of(2026, 5, 1).plusDays(day);
+            targets.add(new DailyPuzzleService(WORDS, 42L, at(date)).current().target());
+        }
+
+        // Then
+        assertThat(targets).hasSize(WORDS.size());
+    }
+
+    @Test
+    void shouldServeSerializedPuzzleWithoutAnswer() {
+        // Given
+        DailyPuzzleService service = new DailyPuzzleService(WORDS, 42L, at(LocalDate.of(2026, 1, 1)));
+
+        // When
+        DailyPuzzleService.Puzzle puzzle = service.current();
+        String body = new String(puzzle.body(), StandardCharsets.UTF_8);
+
+        // Then
+        assertThat(service.current()).isSameAs(puzzle);
+        assertThat(puzzle.number()).isEqualTo(1);
+        assertThat(puzzle.etag()).isEqualTo("\"daily-1\"");
+        assertThat(puzzle.expires()).isEqualTo(LocalDate.of(2026, 1, 2).atStartOfDay(ZONE).toInstant());
+        assertThat(body).contains("\"date\":\"2026-01-01\"").doesNotContain(puzzle.target());
+    }
+
+    @Test
+    void shouldMarkRepeatedLettersOnlyAsOftenAsTargetHasThem() {
+        // When & Then
+        assertThat(DailyPuzzleService.evaluate("kolor", "oooko"))
+                .containsExactly(PRESENT, CORRECT, ABSENT, PRESENT, ABSENT);
+        assertThat(DailyPuzzleService.evaluate("droga", "rzeka"))
+                .containsExactly(PRESENT, ABSENT, ABSENT, ABSENT, CORRECT);
+        assertThat(DailyPuzzleService.evaluate("morze", "morze"))
+                .containsOnly(CORRECT);
+    }
+
+    @Test
+    void shouldReportSolvedGuess() {
+        // Given
+        DailyPuzzleService service = new DailyPuzzleService(WORDS, 42L, at(LocalDate.of(2026, 2, 2)));
+        String target = service.current().target();
+
+        // When
+        DailyGuessResultDTO result = service.guess(" " + target.toUpperCase() + " ");
+
+        // Then
+        assertThat(result.isSolved()).isTrue();
+        assertThat(result.getLetters()).containsOnly(CORRECT);
+    }
+
+    @Test
+    void shouldRejectGuessOfWrongLength() {
+        // Given
+        DailyPuzzleService service = new DailyPuzzleService(WORDS, 42L, at(LocalDate.of(2026, 2, 2)));
+
+        // When & Then
+        assertThatThrownBy(() -> service.guess("kot"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static Clock at(LocalDate date) {
+        Instant noon = date.atTime(12, 0).atZone(ZONE).toInstant();
+        return Clock.fixed(noon, ZONE);
+    }
+}
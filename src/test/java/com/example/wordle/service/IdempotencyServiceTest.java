@@ -0,0 +1,245 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.WordPairDTO;
+import com.example.wordle.exception.BadRequestException;
+import com.example.wordle.exception.ConflictException;
+import com.example.wordle.security.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyServiceTest {
+
+    private static final AuthenticatedUser USER = new AuthenticatedUser(7L, "john", "", List.of());
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @BeforeEach
+    void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(USER, null, List.of()));
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldReplayFirstResponseWithoutRunningAgain() {
+        // Given
+        IdempotencyService service = service(IdempotencyService.Store.MEMORY, null);
+        service.execute("key-1", "POST /api/words", word("kot"), created("kot"));
+
+        // When
+        ResponseEntity<?> replay = service.execute("key-1", "POST /api/words", word("kot"), created("kot"));
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(replay.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(replay.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(body(replay)).contains("\"polishWord\":\"kot\"");
+        assertThat(meterRegistry.get("idempotency.requests").tag("outcome", "replayed").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectKeyReusedForDifferentRequest() {
+        // Given
+        IdempotencyService service = service(IdempotencyService.Store.MEMORY, null);
+        service.execute("key-1", "POST /api/words", word("kot"), created("kot"));
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute("key-1", "POST /api/words", word("pies"), created("pies")))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void shouldRunConcurrentDuplicatesOnce() throws Exception {
+        // Given
+        IdempotencyService service = service(IdempotencyService.Store.MEMORY, null);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<ResponseEntity<?>> slow = () -> {
+            started.countDown();
+            await(release);
+            return created("kot").get();
+        };
+        CompletableFuture<ResponseEntity<?>> first = CompletableFuture.supplyAsync(
+                () -> asUser(() -> service.execute("key-1", "POST /api/words", word("kot"), slow)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        CompletableFuture<ResponseEntity<?>> retry = CompletableFuture.supplyAsync(
+                () -> asUser(() -> service.execute("key-1", "POST /api/words", word("kot"), slow)));
+        release.countDown();
+
+        // Then
+        assertThat(body(retry.get(5, TimeUnit.SECONDS))).isEqualTo(body(first.get(5, TimeUnit.SECONDS)));
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void shouldReleaseKeyWhenRequestFails() {
+        // Given
+        IdempotencyService service = service(IdempotencyService.Store.MEMORY, null);
+        assertThatThrownBy(() -> service.execute("key-1", "POST /api/words", word("kot"), () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // When
+        ResponseEntity<?> retry = service.execute("key-1", "POST /api/words", word("kot"), created("kot"));
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(retry.getHeaders().containsHeader(IdempotencyService.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    void shouldReleaseKeyWhenRequestFailsWithError() {
+        // Given
+        IdempotencyService service = service(IdempotencyService.Store.MEMORY, null);
+        assertThatThrownBy(() -> service.execute("key-1", "POST /api/words", word("kot"), () -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+
+        // When
+        ResponseEntity<?> retry = service.execute("key-1", "POST /api/words", word("kot"), created("kot"));
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(retry.getHeaders().containsHeader(IdempotencyService.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    void shouldShareResponsesThroughDatabase() {
+        // Given
+        JdbcTemplate jdbcTemplate = idempotencyKeys();
+        IdempotencyService first = service(IdempotencyService.Store.DATABASE, jdbcTemplate);
+        IdempotencyService second = service(IdempotencyService.Store.DATABASE, jdbcTemplate);
+        first.execute("key-db", "POST /api/words", word("kot"), created("kot"));
+
+        // When
+        ResponseEntity<?> replay = second.execute("key-db", "POST /api/words", word("kot"), created("kot"));
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(replay.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(body(replay)).contains("\"polishWord\":\"kot\"");
+        assertThatThrownBy(() -> second.execute("key-db", "POST /api/words", word("pies"), created("pies")))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void shouldKeepDatabaseClaimWhileRequestOutlastsWaiters() throws Exception {
+        // Given
+        JdbcTemplate jdbcTemplate = idempotencyKeys();
+        IdempotencyService first = service(IdempotencyService.Store.DATABASE, jdbcTemplate, 200);
+        IdempotencyService second = service(IdempotencyService.Store.DATABASE, jdbcTemplate, 200);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<ResponseEntity<?>> slow = () -> {
+            started.countDown();
+            await(release);
+            return created("kot").get();
+        };
+        CompletableFuture<ResponseEntity<?>> running = CompletableFuture.supplyAsync(
+                () -> asUser(() -> first.execute("key-slow", "POST /api/words", word("kot"), slow)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        assertThatThrownBy(() -> second.execute("key-slow", "POST /api/words", word("kot"), created("kot")))
+                .isInstanceOf(ConflictException.class);
+        Thread.sleep(300);
+        assertThatThrownBy(() -> second.execute("key-slow", "POST /api/words", word("kot"), created("kot")))
+                .isInstanceOf(ConflictException.class);
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        ResponseEntity<?> replay = second.execute("key-slow", "POST /api/words", word("kot"), created("kot"));
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(replay.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    private IdempotencyService service(IdempotencyService.Store store, JdbcTemplate jdbcTemplate) {
+        return service(store, jdbcTemplate, 5_000);
+    }
+
+    private IdempotencyService service(IdempotencyService.Store store, JdbcTemplate jdbcTemplate, long inProgressMs) {
+        return new IdempotencyService(JsonMapper.builder().build(), jdbcTemplate, meterRegistry,
+                store, 60_000, 100, inProgressMs, 60_000, 1_048_576);
+    }
+
+    private static JdbcTemplate idempotencyKeys() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(
+                new DriverManagerDataSource("jdbc:h2:mem:idempotency;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS idempotency_keys (
+                    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    user_id bigint NOT NULL,
+                    scope varchar(300) NOT NULL,
+                    request_hash varchar(64) NOT NULL,
+                    status integer,
+                    body varbinary(1048576),
+                    created_at timestamp(6) NOT NULL,
+                    expires_at timestamp(6) NOT NULL,
+                    CONSTRAINT uk_idempotency_keys_scope UNIQUE (user_id, scope))""");
+        return jdbcTemplate;
+    }
+
+    private Supplier<ResponseEntity<?>> created(String polishWord) {
+        return () -> {
+            runs.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(WordPairDTO.builder().id(1L).polishWord(polishWord).ukrainianWord("кіт").build());
+        };
+    }
+
+    private static WordPairDTO word(String polishWord) {
+        return WordPairDTO.builder().polishWord(polishWord).ukrainianWord("кіт").build();
+    }
+
+    private static String body(ResponseEntity<?> response) {
+        return new String((byte[]) response.getBody(), StandardCharsets.UTF_8);
+    }
+
+    private static <T> T asUser(Supplier<T> action) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(USER, null, List.of()));
+        try {
+            return action.get();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
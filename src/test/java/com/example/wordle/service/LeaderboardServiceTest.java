@@ -0,0 +1,227 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.LeaderboardDTO;
+import com.example.wordle.dto.LeaderboardPeriod;
+import com.example.wordle.entity.LeaderboardScore;
+import com.example.wordle.repository.LeaderboardScoreRepository;
+import com.example.wordle.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardServiceTest {
+
+    @Mock
+    private LeaderboardScoreRepository leaderboardScoreRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final MutableClock clock = new MutableClock();
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardService = new LeaderboardService(leaderboardScoreRepository, jdbcTemplate, clock);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldRankUsersFromMemory() {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(2L, "john", "", List.of()), null, List.of()));
+
+        leaderboardService.recordCorrectAnswer(1L, "anna");
+        leaderboardService.recordCorrectAnswer(1L, "anna");
+        leaderboardService.recordCorrectAnswer(2L, "john");
+
+        // When
+        LeaderboardDTO leaderboard = leaderboardService.getLeaderboard(LeaderboardPeriod.WEEKLY, 10);
+
+        // Then
+        assertThat(leaderboard.getEntries()).extracting("username").containsExactly("anna", "john");
+        assertThat(leaderboard.getEntries()).extracting("score").containsExactly(2L, 1L);
+        assertThat(leaderboard.getYou().getRank()).isEqualTo(2);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void shouldCheckpointDeltasAndInsertMissingRows() {
+        // Given
+        leaderboardService.recordCorrectAnswer(1L, "anna");
+        leaderboardService.recordCorrectAnswer(1L, "anna");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{0});
+
+        // When
+        leaderboardService.checkpoint();
+        leaderboardService.checkpoint();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT"), inserts.capture());
+        assertThat(inserts.getValue()).hasSize(1);
+        assertThat(inserts.getValue().get(0)[4]).isEqualTo(1L);
+        assertThat(inserts.getValue().get(0)[1]).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldKeepDeltasWhenCheckpointFails() {
+        // Given
+        leaderboardService.recordCorrectAnswer(1L, "anna");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[]{1});
+
+        // When
+        leaderboardService.checkpoint();
+        leaderboardService.checkpoint();
+
+        // Then
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("UPDATE"), anyList());
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT"), anyList());
+    }
+
+    @Test
+    void shouldCheckpointPendingDeltasUnderWeekTheyWereEarnedIn() {
+        // Given
+        leaderboardService.recordCorrectAnswer(1L, "anna");
+        clock.advance(Duration.ofDays(7));
+        leaderboardService.recordCorrectAnswer(1L, "anna");
+        leaderboardService.recordCorrectAnswer(1L, "anna");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1});
+
+        // When
+        leaderboardService.checkpoint();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("UPDATE"), updates.capture());
+        Object[] lastWeek = updates.getAllValues().get(0).get(0);
+        Object[] thisWeek = updates.getAllValues().get(1).get(0);
+        assertThat(lastWeek[0]).isEqualTo(1L);
+        assertThat(lastWeek[1]).isEqualTo(Date.valueOf(LocalDate.of(2026, 3, 9)));
+        assertThat(thisWeek[0]).isEqualTo(2L);
+        assertThat(thisWeek[1]).isEqualTo(Date.valueOf(LocalDate.of(2026, 3, 16)));
+    }
+
+    @Test
+    void shouldIgnoreAnswersThatWereRolledBack() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            leaderboardService.recordCorrectAnswer(1L, "anna");
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        leaderboardService.checkpoint();
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void shouldDropUsersWhoseRowIsGoneOnReload() {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(2L, "john", "", List.of()), null, List.of()));
+        leaderboardService.recordCorrectAnswer(1L, "anna");
+        leaderboardService.recordCorrectAnswer(2L, "john");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 1});
+        // Anna's account was closed on another instance, which deleted her row
+        when(leaderboardScoreRepository.findAll()).thenReturn(List.of(LeaderboardScore.builder()
+                .userId(2L)
+                .username("john")
+                .allTimeScore(1)
+                .weeklyScore(1)
+                .weekStart(LocalDate.of(2026, 3, 9))
+                .build()));
+
+        // When
+        leaderboardService.reload();
+
+        // Then
+        LeaderboardDTO leaderboard = leaderboardService.getLeaderboard(LeaderboardPeriod.ALL_TIME, 10);
+        assertThat(leaderboard.getEntries()).extracting("username").containsExactly("john");
+    }
+
+    @Test
+    void shouldRemoveClosedAccountOnlyOnceTransactionCommits() {
+        // Given
+        leaderboardService.recordCorrectAnswer(1L, "anna");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            leaderboardService.removeUserAfterCommit(1L);
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1});
+        leaderboardService.checkpoint();
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE"), anyList());
+    }
+
+    private static final class MutableClock extends Clock {
+        // A Wednesday
+        private Instant now = Instant.parse("2026-03-11T12:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
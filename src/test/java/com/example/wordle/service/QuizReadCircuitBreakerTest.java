@@ -0,0 +1,130 @@
+package com.example.wordle.service;
+
+import com.example.wordle.exception.NotFoundException;
+import com.example.wordle.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuizReadCircuitBreakerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+    private final QuizReadCircuitBreaker breaker = new QuizReadCircuitBreaker(meterRegistry, clock, 500, 4, 2, 10_000);
+
+    @Test
+    void shouldServeFallbackOnceFailuresReachThreshold() {
+        // Given
+        breaker.call(failing(), () -> "stale");
+        breaker.call(failing(), () -> "stale");
+
+        // When
+        String result = breaker.call(() -> "fresh", () -> "stale");
+
+        // Then
+        assertThat(result).isEqualTo("stale");
+        assertThat(breaker.state()).isEqualTo(QuizReadCircuitBreaker.State.OPEN);
+        assertThat(breaker.isOpen()).isTrue();
+        assertThat(meterRegistry.get("quiz.circuit_breaker.state").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("quiz.reads").tag("source", "snapshot").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldCountSlowReadsAgainstDatabase() {
+        // Given
+        Supplier<String> slow = () -> {
+            clock.advance(600);
+            return "fresh";
+        };
+
+        // When
+        breaker.call(slow, () -> "stale");
+        breaker.call(slow, () -> "stale");
+
+        // Then
+        assertThat(breaker.state()).isEqualTo(QuizReadCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulTrialRead() {
+        // Given
+        breaker.call(failing(), () -> "stale");
+        breaker.call(failing(), () -> "stale");
+        clock.advance(10_000);
+        assertThat(breaker.isOpen()).isFalse();
+
+        // When
+        String result = breaker.call(() -> "fresh", () -> "stale");
+
+        // Then
+        assertThat(result).isEqualTo("fresh");
+        assertThat(breaker.state()).isEqualTo(QuizReadCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldNotCountOtherErrorsAgainstDatabase() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> breaker.call(() -> {
+                throw new NotFoundException("User not found");
+            }, () -> "stale")).isInstanceOf(NotFoundException.class);
+        }
+
+        // Then
+        assertThat(breaker.state()).isEqualTo(QuizReadCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldFailWhenNothingToFallBackOn() {
+        // Given
+        assertThatThrownBy(() -> breaker.call(failing(), () -> null)).isInstanceOf(QueryTimeoutException.class);
+        breaker.call(failing(), () -> "stale");
+
+        // When & Then
+        assertThatThrownBy(() -> breaker.call(() -> "fresh", () -> null))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private static Supplier<String> failing() {
+        return () -> {
+            throw new QueryTimeoutException("canceling statement due to statement timeout");
+        };
+    }
+
+    private static final class MutableClock extends Clock {
+        private long millis = 1_000_000;
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
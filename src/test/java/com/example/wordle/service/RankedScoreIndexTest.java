@@ -0,0 +1,88 @@
+package com.example.wordle.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankedScoreIndexTest {
+
+    @Test
+    void shouldOrderByScoreThenUserId() {
+        // Given
+        RankedScoreIndex index = new RankedScoreIndex();
+        index.add(1, 5);
+        index.add(2, 7);
+        index.add(3, 5);
+        index.add(1, 1);
+
+        // When
+        List<RankedScoreIndex.Entry> top = index.top(10);
+
+        // Then
+        assertThat(top).extracting(RankedScoreIndex.Entry::userId).containsExactly(2L, 1L, 3L);
+        assertThat(top).extracting(RankedScoreIndex.Entry::score).containsExactly(7L, 6L, 5L);
+        assertThat(index.find(3).rank()).isEqualTo(3);
+        assertThat(index.find(4)).isNull();
+    }
+
+    @Test
+    void shouldRemoveUsers() {
+        // Given
+        RankedScoreIndex index = new RankedScoreIndex();
+        index.add(1, 5);
+        index.add(2, 7);
+
+        // When
+        boolean removed = index.remove(2);
+
+        // Then
+        assertThat(removed).isTrue();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.find(1).rank()).isEqualTo(1);
+        assertThat(index.remove(2)).isFalse();
+    }
+
+    @Test
+    void shouldMatchSortedReferenceAfterRandomUpdates() {
+        // Given
+        RankedScoreIndex index = new RankedScoreIndex();
+        Map<Long, Long> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            long userId = random.nextInt(500);
+            if (random.nextInt(10) == 0) {
+                index.remove(userId);
+                reference.remove(userId);
+            } else {
+                long delta = random.nextInt(5);
+                index.add(userId, delta);
+                reference.merge(userId, delta, Long::sum);
+            }
+        }
+
+        // Then
+        List<Map.Entry<Long, Long>> expected = new ArrayList<>(reference.entrySet());
+        expected.sort(Comparator.<Map.Entry<Long, Long>>comparingLong(Map.Entry::getValue).reversed()
+                .thenComparingLong(Map.Entry::getKey));
+
+        assertThat(index.size()).isEqualTo(expected.size());
+        assertThat(index.top(expected.size()))
+                .extracting(RankedScoreIndex.Entry::userId)
+                .containsExactlyElementsOf(expected.stream().map(Map.Entry::getKey).toList());
+        for (int rank = 1; rank <= expected.size(); rank++) {
+            Map.Entry<Long, Long> entry = expected.get(rank - 1);
+            RankedScoreIndex.Entry found = index.find(entry.getKey());
+            assertThat(found.rank()).isEqualTo(rank);
+            assertThat(found.score()).isEqualTo(entry.getValue());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.wordle.service;
+
+import com.example.wordle.entity.UserStats;
+import com.example.wordle.entity.WeakWord;
+import com.example.wordle.repository.UserStatsRepository;
+import com.example.wordle.repository.WordPairRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserStatsServiceTest {
+
+    @Mock
+    private UserStatsRepository userStatsRepository;
+
+    @Mock
+    private WordPairRepository wordPairRepository;
+
+    @InjectMocks
+    private UserStatsService userStatsService;
+
+    @Test
+    void shouldUpdateTotalsAndStreaksIncrementally() {
+        // Given
+        UserStats stats = UserStats.builder().userId(1L).totalWords(4).build();
+        when(userStatsRepository.findForUpdate(1L)).thenReturn(Optional.of(stats));
+
+        // When
+        userStatsService.recordAnswer(1L, 10L, true, 1, 0);
+        userStatsService.recordAnswer(1L, 11L, true, 1, 0);
+        userStatsService.recordAnswer(1L, 12L, false, 0, 1);
+
+        // Then
+        assertThat(stats.getTotalAnswers()).isEqualTo(3);
+        assertThat(stats.getCorrectAnswers()).isEqualTo(2);
+        assertThat(stats.getCurrentStreak()).isZero();
+        assertThat(stats.getBestStreak()).isEqualTo(2);
+        assertThat(stats.getDayStreak()).isEqualTo(1);
+        assertThat(stats.getDailyStats()).hasSize(1);
+        assertThat(stats.getDailyStats().get(0).answers()).isEqualTo(3);
+        assertThat(stats.getDailyStats().get(0).correct()).isEqualTo(2);
+        verifyNoInteractions(wordPairRepository);
+    }
+
+    @Test
+    void shouldContinueDayStreakFromYesterday() {
+        // Given
+        UserStats stats = UserStats.builder()
+                .userId(1L)
+                .dayStreak(3)
+                .lastActiveDate(LocalDate.now().minusDays(1))
+                .build();
+        when(userStatsRepository.findForUpdate(1L)).thenReturn(Optional.of(stats));
+
+        // When
+        userStatsService.recordAnswer(1L, 10L, true, 1, 0);
+
+        // Then
+        assertThat(stats.getDayStreak()).isEqualTo(4);
+        assertThat(stats.getLastActiveDate()).isEqualTo(LocalDate.now());
+    }
+
+    @Test
+    void shouldKeepOnlyTheWeakestWords() {
+        // Given
+        UserStats stats = UserStats.builder().userId(1L).build();
+        when(userStatsRepository.findForUpdate(1L)).thenReturn(Optional.of(stats));
+
+        // When
+        for (long id = 1; id <= UserStats.WEAKEST_WORDS + 5; id++) {
+            userStatsService.recordAnswer(1L, id, false, 0, (int) id);
+        }
+        userStatsService.recordAnswer(1L, 15L, true, 20, 15);
+
+        // Then
+        assertThat(stats.getWeakWords()).hasSize(UserStats.WEAKEST_WORDS - 1);
+        assertThat(stats.getWeakWords()).extracting(WeakWord::wordPairId)
+                .doesNotContain(15L, 1L)
+                .startsWith(14L, 13L);
+    }
+
+    @Test
+    void shouldSeedStatsFromWordCountOnFirstWrite() {
+        // Given
+        when(userStatsRepository.addWords(1L, 2)).thenReturn(0);
+        when(userStatsRepository.insertIfAbsent(1L)).thenReturn(1);
+
+        // When
+        userStatsService.recordWordsAdded(1L, 2);
+
+        // Then
+        verify(userStatsRepository, times(1)).addWords(1L, 2);
+        verify(userStatsRepository, never()).save(any(UserStats.class));
+    }
+
+    @Test
+    void shouldAddWordsToRowCreatedByConcurrentWrite() {
+        // Given
+        when(userStatsRepository.addWords(1L, 2)).thenReturn(0, 1);
+        when(userStatsRepository.insertIfAbsent(1L)).thenReturn(0);
+
+        // When
+        userStatsService.recordWordsAdded(1L, 2);
+
+        // Then
+        verify(userStatsRepository, times(2)).addWords(1L, 2);
+    }
+
+    @Test
+    void shouldCreateMissingRowBeforeRecordingAnswer() {
+        // Given
+        UserStats stats = UserStats.builder().userId(1L).totalWords(3).build();
+        when(userStatsRepository.findForUpdate(1L)).thenReturn(Optional.empty(), Optional.of(stats));
+
+        // When
+        userStatsService.recordAnswer(1L, 10L, true, 1, 0);
+
+        // Then
+        verify(userStatsRepository).insertIfAbsent(1L);
+        verify(userStatsRepository).save(stats);
+        assertThat(stats.getTotalAnswers()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIncrementWordTotalWithoutCounting() {
+        // Given
+        when(userStatsRepository.addWords(1L, 2)).thenReturn(1);
+
+        // When
+        userStatsService.recordWordsAdded(1L, 2);
+
+        // Then
+        verify(userStatsRepository, never()).insertIfAbsent(any());
+        verifyNoInteractions(wordPairRepository);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.wordle.service;
+
+import com.example.wordle.repository.WordPairRepository;
+import com.example.wordle.repository.projection.WordText;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VocabularyCacheTest {
+
+    private static final List<WordText> WORDS = List.of(new WordText(10L, "kot", "кіт"));
+
+    @Mock
+    private WordPairRepository wordPairRepository;
+
+    @Mock
+    private CacheInvalidationNotifier invalidationNotifier;
+
+    @InjectMocks
+    private VocabularyCache vocabularyCache;
+
+    @Test
+    void shouldShareRunningLoadBetweenConcurrentMisses() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(wordPairRepository.findTextsByUserId(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return WORDS;
+        });
+        CompletableFuture<VocabularySnapshot> first = CompletableFuture.supplyAsync(() -> vocabularyCache.get(1L));
+        CompletableFuture<VocabularySnapshot> second = CompletableFuture.supplyAsync(() -> vocabularyCache.get(1L));
+
+        // When
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(second.get(5, TimeUnit.SECONDS));
+        verify(wordPairRepository, times(1)).findTextsByUserId(1L);
+        assertThat(vocabularyCache.isCached(1L)).isTrue();
+    }
+
+    @Test
+    void shouldServeOtherUsersWhileLoadIsSlow() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(wordPairRepository.findTextsByUserId(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return WORDS;
+        });
+        when(wordPairRepository.findTextsByUserId(2L)).thenReturn(WORDS);
+        CompletableFuture<VocabularySnapshot> slow = CompletableFuture.supplyAsync(() -> vocabularyCache.get(1L));
+
+        // When
+        VocabularySnapshot other = CompletableFuture.supplyAsync(() -> vocabularyCache.get(2L))
+                .get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(other.size()).isEqualTo(1);
+        assertThat(slow).isNotDone();
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldNotCacheLoadThatRacedWithEviction() throws Exception {
+        // Given
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        when(wordPairRepository.findTextsByUserId(1L)).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            evicted.await(5, TimeUnit.SECONDS);
+            return WORDS;
+        });
+        CompletableFuture<VocabularySnapshot> load = CompletableFuture.supplyAsync(() -> vocabularyCache.get(1L));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        vocabularyCache.evict(1L);
+        evicted.countDown();
+
+        // Then
+        assertThat(load.get(5, TimeUnit.SECONDS).size()).isEqualTo(1);
+        assertThat(vocabularyCache.isCached(1L)).isFalse();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.wordle.service;
+
+import com.example.wordle.repository.projection.WordText;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VocabularySearchIndexTest {
+
+    @Test
+    void shouldRankExactThenPrefixThenSubstringMatches() {
+        // Given
+        VocabularySnapshot snapshot = VocabularySnapshot.of(List.of(
+                new WordText(1L, "kotlet", "котлета"),
+                new WordText(2L, "szkoła", "школа"),
+                new WordText(3L, "kot", "кіт"),
+                new WordText(4L, "kotek", "кошеня"),
+                new WordText(5L, "pies", "собака")));
+
+        // When
+        List<WordText> results = snapshot.search("kot", 10);
+
+        // Then
+        assertThat(results).extracting(WordText::id).containsExactly(3L, 4L, 1L, 2L);
+    }
+
+    @Test
+    void shouldSearchBothLanguagesAndShortQueries() {
+        // Given
+        VocabularySnapshot snapshot = VocabularySnapshot.of(List.of(
+                new WordText(1L, "dom", "будинок"),
+                new WordText(2L, "woda", "вода"),
+                new WordText(3L, "Wolny Dzień", "вихідний")));
+
+        // When
+        List<WordText> cyrillic = snapshot.search("дин", 10);
+        List<WordText> shortSubstring = snapshot.search("od", 10);
+        List<WordText> normalized = snapshot.search("wolny dz", 10);
+
+        // Then
+        assertThat(cyrillic).extracting(WordText::id).containsExactly(1L);
+        assertThat(shortSubstring).extracting(WordText::id).containsExactly(2L);
+        assertThat(normalized).extracting(WordText::id).containsExactly(3L);
+    }
+
+    // Wall-clock bound, so it runs in `./gradlew perfTest` only. The target is 5 ms per search;
+    // the assertion leaves a tenfold margin for shared machines and only catches a linear scan.
+    @Test
+    @Tag("perf")
+    void shouldAnswerQuicklyAtHundredThousandWords() {
+        // Given
+        List<WordText> words = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            words.add(new WordText((long) i, "słowo" + i, "слово" + i));
+        }
+        VocabularySnapshot snapshot = VocabularySnapshot.of(words);
+        String[] queries = {"słowo12", "ово999", "4242", "слово", "s"};
+        for (int i = 0; i < 200; i++) {
+            snapshot.search(queries[i % queries.length], 20);
+        }
+
+        // When
+        long start = System.nanoTime();
+        int rounds = 500;
+        for (int i = 0; i < rounds; i++) {
+            assertThat(snapshot.search(queries[i % queries.length], 20)).isNotEmpty();
+        }
+        long averageNanos = (System.nanoTime() - start) / rounds;
+
+        // Then
+        assertThat(averageNanos).isLessThan(50_000_000L);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.wordle.service;
+
+import com.example.wordle.entity.Language;
+import com.example.wordle.repository.projection.WordText;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VocabularySnapshotTest {
+
+    @Test
+    void shouldDrawDistractorsFromSimilarWords() {
+        // Given
+        VocabularySnapshot snapshot = VocabularySnapshot.of(pairs(
+                "czytać", "читати",
+                "czekać", "чекати",
+                "czesać", "чесати",
+                "czuwać", "чувати",
+                "kot", "кіт",
+                "dom", "будинок",
+                "pies", "собака",
+                "woda", "вода"));
+
+        // When
+        List<String> distractors = snapshot.pickDistractors(1L, "czytać", Language.POLISH, 3);
+
+        // Then
+        assertThat(distractors).containsExactlyInAnyOrder("czekać", "czesać", "czuwać");
+    }
+
+    @Test
+    void shouldFallBackToWholeVocabularyWhenBucketIsTooSmall() {
+        // Given
+        VocabularySnapshot snapshot = VocabularySnapshot.of(pairs(
+                "kot", "кіт",
+                "czytać", "читати",
+                "zielony", "зелений",
+                "woda", "вода"));
+
+        // When
+        List<String> distractors = snapshot.pickDistractors(1L, "кіт", Language.UKRAINIAN, 3);
+
+        // Then
+        assertThat(distractors).containsExactlyInAnyOrder("читати", "зелений", "вода");
+    }
+
+    @Test
+    void shouldSkipDuplicatesOfCorrectAnswer() {
+        // Given
+        VocabularySnapshot snapshot = VocabularySnapshot.of(pairs(
+                "kot", "кіт",
+                "Kot", "кішка",
+                "dom", "будинок",
+                "pies", "собака"));
+
+        // When
+        List<String> distractors = snapshot.pickDistractors(1L, "kot", Language.POLISH, 3);
+
+        // Then
+        assertThat(distractors).containsExactlyInAnyOrder("dom", "pies");
+    }
+
+    private static List<WordText> pairs(String... words) {
+        List<WordText> pairs = new ArrayList<>();
+        for (int i = 0; i < words.length; i += 2) {
+            pairs.add(new WordText((long) i / 2 + 1, words[i], words[i + 1]));
+        }
+        return pairs;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.ExportFormat;
+import com.example.wordle.entity.User;
+import com.example.wordle.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lazy query execution lets H2 stream the result like a PostgreSQL cursor
+ * instead of materializing it before the first row is returned.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:export_test;LAZY_QUERY_EXECUTION=TRUE")
+@TestPropertySource(locations = "classpath:application-test.properties")
+class WordExportServiceTest {
+
+    private static final int MILLION = 1_000_000;
+
+    @Autowired
+    private WordExportService wordExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void cleanUp() {
+        new JdbcTemplate(dataSource).update("DELETE FROM word_pairs");
+        userRepository.deleteAll();
+    }
+
+    // Inserts a million rows and samples the heap, which depends on the collector: run with `./gradlew perfTest`
+    @Test
+    @Tag("perf")
+    void shouldExportMillionRowsInConstantMemory() throws Exception {
+        // Given
+        Long userId = createUser("exporter");
+        new JdbcTemplate(dataSource).update("""
+                INSERT INTO word_pairs (polish_word, ukrainian_word, polish_key, ukrainian_key,
+                                        user_id, created_at, correct_count, incorrect_count)
+                SELECT 'slowo' || X, 'слово' || X, 'slowo' || X, 'слово' || X, ?, CURRENT_TIMESTAMP, 0, 0
+                FROM SYSTEM_RANGE(1, ?)""",
+                userId, MILLION);
+        long baseline = usedHeapAfterGc();
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream(40L * MILLION);
+
+        // When
+        long exported = wordExportService.export(userId, ExportFormat.CSV, false, out);
+
+        // Then
+        assertThat(exported).isEqualTo(MILLION);
+        assertThat(out.lines).isEqualTo(MILLION + 1);
+        assertThat(out.sampledHeap).isPositive();
+        // A materialized list of a million word pairs alone needs well over 100 MB
+        assertThat(out.sampledHeap - baseline).isLessThan(32L * 1024 * 1024);
+    }
+
+    @Test
+    void shouldEscapeNdjsonAndCompressWithGzip() throws Exception {
+        // Given
+        Long userId = createUser("quoter");
+        new JdbcTemplate(dataSource).update("""
+                INSERT INTO word_pairs (polish_word, ukrainian_word, polish_key, ukrainian_key,
+                                        user_id, created_at, correct_count, incorrect_count)
+                VALUES ('"cytat"', 'рядок\\nдва', '"cytat"', 'рядок\\nдва', ?, CURRENT_TIMESTAMP, 2, 1)""", userId);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        wordExportService.export(userId, ExportFormat.NDJSON, true, out);
+
+        // Then
+        String content = new String(
+                new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes(),
+                StandardCharsets.UTF_8);
+        assertThat(content).matches(
+                "\\{\"id\":\\d+,\"polishWord\":\"\\\\\"cytat\\\\\"\",\"ukrainianWord\":\"рядок\\\\\\\\nдва\","
+                        + "\"correctCount\":2,\"incorrectCount\":1}\n");
+    }
+
+    private Long createUser(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password")
+                .build()).getId();
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Discards the export, counts its lines and measures the live heap once
+     * half-way through, while the cursor is open.
+     */
+    private static final class HeapSamplingOutputStream extends OutputStream {
+
+        private final long sampleAtByte;
+        private long bytes;
+        private long lines;
+        private long sampledHeap;
+
+        private HeapSamplingOutputStream(long sampleAtByte) {
+            this.sampleAtByte = sampleAtByte / 2;
+        }
+
+        @Override
+        public void write(int b) {
+            count(b);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                count(buffer[i]);
+            }
+        }
+
+        private void count(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+            if (++bytes == sampleAtByte) {
+                sampledHeap = usedHeapAfterGc();
+            }
+        }
+    }
+}
@@ -2,28 +2,36 @@ package com.example.wordle.service;
 
 import com.example.wordle.dto.BulkWordRequest;
 import com.example.wordle.dto.BulkWordResponse;
+import com.example.wordle.dto.WordChangeResponse;
 import com.example.wordle.dto.WordPairDTO;
+import com.example.wordle.dto.WordSelection;
+import com.example.wordle.dto.WordUpdateRequest;
 import com.example.wordle.entity.User;
+import com.example.wordle.entity.WordChange;
 import com.example.wordle.entity.WordPair;
+import com.example.wordle.exception.BadRequestException;
+import com.example.wordle.exception.NotFoundException;
 import com.example.wordle.repository.UserRepository;
+import com.example.wordle.repository.WordCriteria;
 import com.example.wordle.repository.WordPairRepository;
+import com.example.wordle.repository.projection.WordPairView;
+import com.example.wordle.security.AuthenticatedUser;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +43,12 @@ class WordServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Mock
+    private VocabularyCache vocabularyCache;
+
     @InjectMocks
     private WordService wordService;
 
@@ -42,6 +56,7 @@ class WordServiceTest {
     void shouldCreateWordPair() {
         // Given
         User user = User.builder()
+                .id(1L)
                 .username("john")
                 .email("john@example.com")
                 .password("asd123F")
@@ -52,6 +67,7 @@ class WordServiceTest {
                 .build();
 
         WordPair savedWordPair = WordPair.builder()
+                .id(1L)
                 .polishWord("kot")
                 .ukrainianWord("кіт")
                 .user(user)
@@ -59,13 +75,8 @@ class WordServiceTest {
                 .incorrectCount(0)
                 .build();
 
-        Authentication authentication = Mockito.mock(Authentication.class);
-        SecurityContext securityContext = Mockito.mock(SecurityContext.class);
-        Mockito.when(securityContext.getAuthentication()).thenReturn(authentication);
-        SecurityContextHolder.setContext(securityContext);
-
-        when(SecurityContextHolder.getContext().getAuthentication().getName()).thenReturn("john");
-        when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
+        authenticateAs(1L);
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
         when(wordPairRepository.save(any(WordPair.class))).thenReturn(savedWordPair);
 
         // When
@@ -81,6 +92,7 @@ class WordServiceTest {
     void shouldTrimWhitespaceWhenCreatingWordPair() {
         // Given
         User user = User.builder()
+                .id(1L)
                 .username("john")
                 .email("john@example.com")
                 .password("asd123F")
@@ -90,14 +102,13 @@ class WordServiceTest {
                 .ukrainianWord("  кіт  ")
                 .build();
 
-        Authentication authentication = Mockito.mock(Authentication.class);
-        SecurityContext securityContext = Mockito.mock(SecurityContext.class);
-        Mockito.when(securityContext.getAuthentication()).thenReturn(authentication);
-        SecurityContextHolder.setContext(securityContext);
-
-        when(SecurityContextHolder.getContext().getAuthentication().getName()).thenReturn("john");
-        when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
-        when(wordPairRepository.save(any(WordPair.class))).thenAnswer(i -> i.getArguments()[0]);
+        authenticateAs(1L);
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+        when(wordPairRepository.save(any(WordPair.class))).thenAnswer(i -> {
+            WordPair saved = i.getArgument(0);
+            saved.setId(1L);
+            return saved;
+        });
 
         // When
         wordService.createWordPair(dto);
@@ -110,78 +121,59 @@ class WordServiceTest {
     }
 
     @Test
-    void shouldThrowExceptionWhenUserNotFoundForWordCreation() {
+    void shouldCreateWordPairWithoutLookingUpTheUser() {
         // Given
         WordPairDTO dto = WordPairDTO.builder()
                 .polishWord("kot")
                 .ukrainianWord("кіт")
                 .build();
 
-        Authentication authentication = Mockito.mock(Authentication.class);
-        SecurityContext securityContext = Mockito.mock(SecurityContext.class);
-        Mockito.when(securityContext.getAuthentication()).thenReturn(authentication);
-        SecurityContextHolder.setContext(securityContext);
+        authenticateAs(1L);
+        when(userRepository.getReferenceById(1L)).thenReturn(User.builder().id(1L).build());
+        when(wordPairRepository.save(any(WordPair.class))).thenAnswer(i -> {
+            WordPair saved = i.getArgument(0);
+            saved.setId(1L);
+            return saved;
+        });
 
-        when(SecurityContextHolder.getContext().getAuthentication().getName()).thenReturn("john");
-        when(userRepository.findByUsername("john")).thenReturn(Optional.empty());
+        // When
+        wordService.createWordPair(dto);
 
-        // When & Then
-        assertThatThrownBy(() -> wordService.createWordPair(dto))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessage("User not found");
+        // Then
+        verify(userRepository, never()).findByUsername(any());
+        verify(wordPairRepository).insertTerms(eq(1L), anyList());
+        verify(userStatsService).recordWordsAdded(1L, 1);
     }
 
     @Test
     void shouldCreateBulkWordPairs() {
         // Given
-        User user = User.builder()
-                .username("john")
-                .email("john@example.com")
-                .password("asd123F")
-                .build();
-
         List<WordPairDTO> dtos = Arrays.asList(
                 WordPairDTO.builder().polishWord("kot").ukrainianWord("кіт").build(),
-                WordPairDTO.builder().polishWord("pies").ukrainianWord("собака").build()
+                WordPairDTO.builder().polishWord("pies").ukrainianWord("собака").build(),
+                WordPairDTO.builder().polishWord(" Kot ").ukrainianWord("КІТ").build(),
+                WordPairDTO.builder().polishWord("dom").ukrainianWord("будинок").build()
         );
 
         BulkWordRequest request = BulkWordRequest.builder()
                 .wordPairs(dtos)
                 .build();
 
-        WordPair wp1 = WordPair.builder()
-                .id(1L)
-                .polishWord("kot")
-                .ukrainianWord("кіт")
-                .user(user)
-                .correctCount(0)
-                .incorrectCount(0)
-                .build();
-
-        WordPair wp2 = WordPair.builder()
-                .id(2L)
-                .polishWord("pies")
-                .ukrainianWord("собака")
-                .user(user)
-                .correctCount(0)
-                .incorrectCount(0)
-                .build();
-
-        Authentication authentication = Mockito.mock(Authentication.class);
-        SecurityContext securityContext = Mockito.mock(SecurityContext.class);
-        Mockito.when(securityContext.getAuthentication()).thenReturn(authentication);
-        SecurityContextHolder.setContext(securityContext);
-
-        when(SecurityContextHolder.getContext().getAuthentication().getName()).thenReturn("john");
-        when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
-        when(wordPairRepository.saveAll(anyList())).thenReturn(Arrays.asList(wp1, wp2));
+        authenticateAs(1L);
+        // "dom" already exists, so only two of the three distinct pairs are inserted
+        when(wordPairRepository.insertIfAbsent(eq(1L), anyList())).thenReturn(Arrays.asList(
+                new WordPairView(1L, "kot", "кіт", 0, 0),
+                new WordPairView(2L, "pies", "собака", 0, 0)));
 
         // When
         BulkWordResponse response = wordService.createBulkWordPairs(request);
 
         // Then
-        assertThat(response.getTotalProcessed()).isEqualTo(2);
-        assertThat(response.getCreatedWords()).hasSize(2);
+        verify(wordPairRepository).insertIfAbsent(eq(1L), argThat(pairs -> pairs.size() == 3));
+        verify(userStatsService).recordWordsAdded(1L, 2);
+        assertThat(response.getTotalProcessed()).isEqualTo(4);
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getSkipped()).isEqualTo(2);
         assertThat(response.getCreatedWords()).extracting(WordPairDTO::getPolishWord)
                 .containsExactly("kot", "pies");
     }
@@ -189,34 +181,11 @@ class WordServiceTest {
     @Test
     void shouldGetAllWordPairsForUser() {
         // Given
-        User user = User.builder().id(1L).build();
+        WordPairView wp1 = new WordPairView(1L, "kot", "кіт", 5, 2);
+        WordPairView wp2 = new WordPairView(2L, "pies", "собака", 3, 1);
 
-        WordPair wp1 = WordPair.builder()
-                .id(1L)
-                .polishWord("kot")
-                .ukrainianWord("кіт")
-                .user(user)
-                .correctCount(5)
-                .incorrectCount(2)
-                .build();
-
-        WordPair wp2 = WordPair.builder()
-                .id(2L)
-                .polishWord("pies")
-                .ukrainianWord("собака")
-                .user(user)
-                .correctCount(3)
-                .incorrectCount(1)
-                .build();
-
-        Authentication authentication = Mockito.mock(Authentication.class);
-        SecurityContext securityContext = Mockito.mock(SecurityContext.class);
-        Mockito.when(securityContext.getAuthentication()).thenReturn(authentication);
-        SecurityContextHolder.setContext(securityContext);
-
-        when(SecurityContextHolder.getContext().getAuthentication().getName()).thenReturn("john");
-        when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
-        when(wordPairRepository.findByUserId(1L)).thenReturn(Arrays.asList(wp1, wp2));
+        authenticateAs(1L);
+        when(wordPairRepository.findViewsByUserId(1L)).thenReturn(Arrays.asList(wp1, wp2));
 
         // When
         List<WordPairDTO> results = wordService.getAllWordPairs();
@@ -226,4 +195,67 @@ class WordServiceTest {
         assertThat(results.get(0).getCorrectCount()).isEqualTo(5);
         assertThat(results.get(0).getIncorrectCount()).isEqualTo(2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldDeleteSelectedWordPairsInOneCall() {
+        // Given
+        authenticateAs(1L);
+        WordSelection selection = WordSelection.builder().ids(List.of(3L, 4L, 5L)).build();
+        WordCriteria criteria = new WordCriteria(List.of(3L, 4L, 5L), null, null);
+        when(wordPairRepository.logChanges(1L, criteria, WordChange.Kind.DELETED)).thenReturn(2);
+        when(wordPairRepository.deleteMatching(eq(1L), any(WordCriteria.class))).thenReturn(2);
+
+        // When
+        WordChangeResponse response = wordService.deleteWordPairs(selection);
+
+        // Then
+        assertThat(response.getAffected()).isEqualTo(2);
+        InOrder inOrder = inOrder(wordPairRepository);
+        inOrder.verify(wordPairRepository).logChanges(1L, criteria, WordChange.Kind.DELETED);
+        inOrder.verify(wordPairRepository).deleteMatching(1L, criteria);
+        verify(userStatsService).recordWordsRemoved(1L, 2);
+        verify(vocabularyCache).evictAfterCommit(1L);
+    }
+
+    @Test
+    void shouldSkipDeleteWhenNothingMatches() {
+        // Given
+        authenticateAs(1L);
+
+        // When & Then
+        assertThatThrownBy(() -> wordService.deleteWordPair(9L))
+                .isInstanceOf(NotFoundException.class);
+        verify(wordPairRepository, never()).deleteMatching(any(), any());
+    }
+
+    @Test
+    void shouldRefuseToDeleteWithoutSelection() {
+        // Given
+        authenticateAs(1L);
+
+        // When & Then
+        assertThatThrownBy(() -> wordService.deleteWordPairs(new WordSelection()))
+                .isInstanceOf(BadRequestException.class);
+        verify(wordPairRepository, never()).deleteMatching(any(), any());
+    }
+
+    @Test
+    void shouldReportMissingPairOnUpdate() {
+        // Given
+        authenticateAs(1L);
+        when(wordPairRepository.updateWords(1L, 9L, "kotek", null)).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> wordService.updateWordPair(9L,
+                WordUpdateRequest.builder().polishWord(" kotek ").build()))
+                .isInstanceOf(NotFoundException.class);
+        verify(vocabularyCache, never()).evictAfterCommit(any());
+    }
+
+    private static void authenticateAs(Long userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "john", "", List.of());
+        SecurityContextHolder.setContext(SecurityContextHolder.createEmptyContext());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+}
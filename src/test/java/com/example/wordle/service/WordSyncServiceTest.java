@@ -0,0 +1,140 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.WordChangesDTO;
+import com.example.wordle.dto.WordPairDTO;
+import com.example.wordle.entity.User;
+import com.example.wordle.entity.WordChange;
+import com.example.wordle.entity.WordPair;
+import com.example.wordle.exception.BadRequestException;
+import com.example.wordle.repository.UserRepository;
+import com.example.wordle.repository.WordCriteria;
+import com.example.wordle.repository.WordPairRepository;
+import com.example.wordle.repository.projection.WordPairView;
+import com.example.wordle.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class WordSyncServiceTest {
+
+    @Autowired
+    private WordSyncService wordSyncService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WordPairRepository wordPairRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void signIn() {
+        String username = "sync-" + UUID.randomUUID();
+        userId = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password")
+                .build()).getId();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(userId, username, "", List.of()), null, List.of()));
+    }
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldReturnOnlyChangesSinceCursor() {
+        // Given
+        List<Long> ids = insert("kot", "кіт", "pies", "собака");
+        WordChangesDTO snapshot = wordSyncService.getChanges(null, 500);
+        List<Long> added = insert("dom", "будинок");
+        WordCriteria deleted = new WordCriteria(List.of(ids.get(0), added.get(0)), null, null);
+        wordPairRepository.logChanges(userId, deleted, WordChange.Kind.DELETED);
+        wordPairRepository.deleteMatching(userId, deleted);
+        wordPairRepository.resetCounts(userId, WordCriteria.byId(ids.get(1)));
+        wordPairRepository.logChanges(userId, WordCriteria.byId(ids.get(1)), WordChange.Kind.UPDATED);
+
+        // When
+        WordChangesDTO changes = wordSyncService.getChanges(snapshot.getCursor(), 500);
+
+        // Then
+        assertThat(snapshot.isReset()).isTrue();
+        assertThat(snapshot.getInserted()).extracting(WordPairDTO::getId).containsExactlyElementsOf(ids);
+        assertThat(changes.isReset()).isFalse();
+        assertThat(changes.getInserted()).isEmpty();
+        assertThat(changes.getUpdated()).extracting(WordPairDTO::getPolishWord).containsExactly("pies");
+        // "dom" was added and deleted after the cursor, so the client never hears of it
+        assertThat(changes.getDeleted()).containsExactly(ids.get(0));
+    }
+
+    @Test
+    void shouldPageThroughChanges() {
+        // Given
+        WordChangesDTO start = wordSyncService.getChanges(null, 500);
+        insert("kot", "кіт", "pies", "собака", "dom", "будинок");
+
+        // When
+        WordChangesDTO first = wordSyncService.getChanges(start.getCursor(), 2);
+        WordChangesDTO second = wordSyncService.getChanges(first.getCursor(), 2);
+
+        // Then
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getInserted()).hasSize(2);
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getInserted()).hasSize(1);
+        assertThat(Stream.concat(first.getInserted().stream(), second.getInserted().stream()))
+                .extracting(WordPairDTO::getPolishWord)
+                .containsExactlyInAnyOrder("kot", "pies", "dom");
+    }
+
+    @Test
+    void shouldFallBackToSnapshotForCursorOlderThanRetention() {
+        // Given
+        insert("kot", "кіт");
+
+        // When
+        WordChangesDTO changes = wordSyncService.getChanges("0-0", 500);
+
+        // Then
+        assertThat(changes.isReset()).isTrue();
+        assertThat(changes.getInserted()).extracting(WordPairDTO::getPolishWord).containsExactly("kot");
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        // When & Then
+        assertThatThrownBy(() -> wordSyncService.getChanges("yesterday", 500))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    // Inserts and logs the pairs as WordService does, returning their ids
+    private List<Long> insert(String... words) {
+        List<WordPair> pairs = new ArrayList<>();
+        for (int i = 0; i < words.length; i += 2) {
+            pairs.add(WordPair.builder().polishWord(words[i]).ukrainianWord(words[i + 1]).build());
+        }
+        List<Long> ids = wordPairRepository.insertIfAbsent(userId, pairs).stream()
+                .map(WordPairView::id)
+                .toList();
+        wordPairRepository.logChanges(userId, new WordCriteria(ids, null, null), WordChange.Kind.INSERTED);
+        return ids;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.wordle.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.example.wordle.dto.LetterFeedback.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WordleEvaluatorTest {
+
+    @Test
+    void shouldPackPatternTwoBitsPerPosition() {
+        // When
+        int pattern = WordleEvaluator.evaluate(WordleEvaluator.encode("droga"), WordleEvaluator.encode("rzeka"));
+
+        // Then
+        assertThat(pattern).isEqualTo(WordleEvaluator.PRESENT | WordleEvaluator.CORRECT << 8);
+        assertThat(WordleEvaluator.feedback(pattern, 5)).containsExactly(PRESENT, ABSENT, ABSENT, ABSENT, CORRECT);
+        assertThat(WordleEvaluator.evaluate(WordleEvaluator.encode("morze"), WordleEvaluator.encode("morze")))
+                .isEqualTo(WordleEvaluator.solvedPattern(5));
+    }
+
+    @Test
+    void shouldNotMarkLetterPresentWhenItsOnlyCopyIsGreen() {
+        // When
+        int pattern = WordleEvaluator.evaluate(WordleEvaluator.encode("слово"), WordleEvaluator.encode("олово"));
+
+        // Then
+        assertThat(WordleEvaluator.feedback(pattern, 5)).containsExactly(ABSENT, CORRECT, CORRECT, CORRECT, CORRECT);
+    }
+
+    @Test
+    void shouldEncodeCaseAndApostropheVariantsAlike() {
+        // When & Then
+        assertThat(WordleEvaluator.encode("М'ЯСО")).isEqualTo(WordleEvaluator.encode("мʼясо"));
+        assertThat(WordleEvaluator.encode("ŹRÓDŁ")).isEqualTo(WordleEvaluator.encode("źródł"));
+        assertThat(WordleEvaluator.decode(WordleEvaluator.encode("Ґанок"))).isEqualTo("ґанок");
+        assertThat(WordleEvaluator.length(WordleEvaluator.encode("żółw"))).isEqualTo(4);
+    }
+
+    @Test
+    void shouldRejectLettersOutsideBothAlphabets() {
+        // When & Then
+        assertThat(WordleEvaluator.canEncode("straße")).isFalse();
+        assertThatThrownBy(() -> WordleEvaluator.encode("ы"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldPruneCandidatesByFeedbackAndReset() {
+        // Given
+        WordleCandidates candidates = WordleCandidates.of(List.of("kwiat", "droga", "morze", "rzeka", "kolor", "serce"));
+        long guess = WordleEvaluator.encode("rzeka");
+        int feedback = WordleEvaluator.evaluate(WordleEvaluator.encode("morze"), guess);
+
+        // When
+        int left = candidates.prune(guess, feedback);
+
+        // Then
+        assertThat(left).isEqualTo(1);
+        assertThat(candidates.toList()).containsExactly("morze");
+        candidates.reset();
+        assertThat(candidates.size()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldRejectCandidatesOfMixedLength() {
+        // When & Then
+        assertThatThrownBy(() -> WordleCandidates.of(List.of("kwiat", "kot")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.wordle.support;
+
+/**
+ * Per-thread count of executed SQL statements and fetched rows, fed by
+ * {@link QueryCountingDataSource}. MockMvc runs requests on the test thread,
+ * so work done by background writers is never attributed to a request.
+ */
+public final class QueryCounter {
+
+    public record Snapshot(int statements, long rows) {
+    }
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[2]);
+
+    private QueryCounter() {
+    }
+
+    public static void reset() {
+        long[] counts = COUNTS.get();
+        counts[0] = 0;
+        counts[1] = 0;
+    }
+
+    public static Snapshot snapshot() {
+        long[] counts = COUNTS.get();
+        return new Snapshot((int) counts[0], counts[1]);
+    }
+
+    static void statementExecuted() {
+        COUNTS.get()[0]++;
+    }
+
+    static void rowFetched() {
+        COUNTS.get()[1]++;
+    }
+}
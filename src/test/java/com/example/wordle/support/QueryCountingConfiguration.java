@@ -0,0 +1,27 @@
+package com.example.wordle.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Import into a {@code @SpringBootTest} to count SQL per thread through {@link QueryCounter}.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCountingConfiguration {
+
+    @Bean
+    static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !QueryCountingDataSource.isWrapped(bean)) {
+                    return QueryCountingDataSource.wrap(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
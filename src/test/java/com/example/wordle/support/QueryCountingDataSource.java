@@ -0,0 +1,101 @@
+package com.example.wordle.support;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * JDK-proxy wrapper around a {@link DataSource} that reports every executed
+ * statement and every {@link ResultSet#next()} row to {@link QueryCounter}.
+ */
+public final class QueryCountingDataSource {
+
+    private QueryCountingDataSource() {
+    }
+
+    public static DataSource wrap(DataSource target) {
+        return proxy(DataSource.class, target, (method, result) ->
+                method.getName().equals("getConnection") ? wrapConnection((Connection) result) : result);
+    }
+
+    public static boolean isWrapped(Object bean) {
+        return Proxy.isProxyClass(bean.getClass())
+                && Proxy.getInvocationHandler(bean) instanceof CountingHandler;
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, result) -> {
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement);
+            }
+            return result;
+        });
+    }
+
+    private static <T extends Statement> T wrapStatement(Class<T> type, T statement) {
+        return proxy(type, statement, (method, result) -> {
+            if (method.getName().startsWith("execute")) {
+                QueryCounter.statementExecuted();
+            }
+            if (result instanceof ResultSet resultSet && !method.getName().equals("getGeneratedKeys")) {
+                return wrapResultSet(resultSet);
+            }
+            return result;
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet) {
+        return proxy(ResultSet.class, resultSet, (method, result) -> {
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                QueryCounter.rowFetched();
+            }
+            return result;
+        });
+    }
+
+    private interface ResultDecorator {
+        Object decorate(Method method, Object result);
+    }
+
+    private record CountingHandler(Object target, ResultDecorator decorator) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "QueryCounting[" + target + "]";
+                default:
+                    break;
+            }
+            try {
+                return decorator.decorate(method, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, T target, ResultDecorator decorator) {
+        return type.cast(Proxy.newProxyInstance(
+                QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                new CountingHandler(target, decorator)));
+    }
+}
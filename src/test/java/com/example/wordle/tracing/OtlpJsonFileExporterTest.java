@@ -0,0 +1,57 @@
+package com.example.wordle.tracing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OtlpJsonFileExporterTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldWriteOneOtlpRequestPerFlush() throws Exception {
+        // Given
+        Path file = directory.resolve("traces.jsonl");
+        OtlpJsonFileExporter exporter = new OtlpJsonFileExporter(new SimpleMeterRegistry(), file, "wordle", 10, 10);
+        List<List<Span>> traces = new ArrayList<>();
+        Tracer tracer = new Tracer(traces::add, true, 1.0, 256);
+
+        Span root = tracer.startTrace("GET /api/quiz/multiple-choice", null);
+        root.setAttribute("http.response.status_code", 200);
+        Span repository = tracer.startSpan("UserRepository.findRefByUsername", SpanKind.CLIENT);
+        repository.recordError(new IllegalStateException("boom"));
+        tracer.end(repository);
+        tracer.end(root);
+        exporter.export(traces.get(0));
+
+        // When
+        exporter.flush();
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(1);
+        JsonNode request = JsonMapper.builder().build().readTree(lines.get(0));
+        JsonNode resourceSpans = request.get("resourceSpans").get(0);
+        assertThat(resourceSpans.at("/resource/attributes/0/value/stringValue").asString()).isEqualTo("wordle");
+
+        JsonNode spans = resourceSpans.at("/scopeSpans/0/spans");
+        assertThat(spans.size()).isEqualTo(2);
+        assertThat(spans.get(0).get("name").asString()).isEqualTo("UserRepository.findRefByUsername");
+        assertThat(spans.get(0).get("kind").asInt()).isEqualTo(3);
+        assertThat(spans.get(0).get("parentSpanId").asString()).isEqualTo(root.getSpanId());
+        assertThat(spans.get(0).at("/status/code").asInt()).isEqualTo(2);
+        assertThat(spans.get(1).get("traceId").asString()).isEqualTo(root.getTraceId());
+        assertThat(spans.get(1).get("startTimeUnixNano").isString()).isTrue();
+        assertThat(spans.get(1).at("/attributes/0/value/intValue").asString()).isEqualTo("200");
+    }
+}
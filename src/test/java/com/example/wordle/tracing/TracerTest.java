@@ -0,0 +1,91 @@
+package com.example.wordle.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TracerTest {
+
+    private final List<List<Span>> exported = new ArrayList<>();
+
+    @Test
+    void shouldExportNestedSpansWhenRootEnds() {
+        // Given
+        Tracer tracer = new Tracer(exported::add, true, 1.0, 256);
+
+        // When
+        Span root = tracer.startTrace("GET /api/words", null);
+        Span service = tracer.startSpan("WordService.getAllWordPairs", SpanKind.INTERNAL);
+        Span repository = tracer.startSpan("WordPairRepository.findViewsByUserId", SpanKind.CLIENT);
+        tracer.end(repository);
+        tracer.end(service);
+        assertThat(exported).isEmpty();
+        tracer.end(root);
+
+        // Then
+        assertThat(exported).hasSize(1);
+        assertThat(exported.get(0)).containsExactly(repository, service, root);
+        assertThat(repository.getParentSpanId()).isEqualTo(service.getSpanId());
+        assertThat(service.getParentSpanId()).isEqualTo(root.getSpanId());
+        assertThat(root.getParentSpanId()).isNull();
+        assertThat(exported.get(0)).extracting(Span::getTraceId).containsOnly(root.getTraceId());
+        assertThat(root.getEndEpochNanos()).isGreaterThanOrEqualTo(root.getStartEpochNanos());
+        assertThat(tracer.isTracing()).isFalse();
+    }
+
+    @Test
+    void shouldNotTraceUnsampledRequests() {
+        // Given
+        Tracer tracer = new Tracer(exported::add, true, 0.0, 256);
+
+        // When
+        Span root = tracer.startTrace("GET /api/words", null);
+        Span child = tracer.startSpan("WordService.getAllWordPairs", SpanKind.INTERNAL);
+        tracer.end(child);
+        tracer.end(root);
+
+        // Then
+        assertThat(root).isNull();
+        assertThat(child).isNull();
+        assertThat(exported).isEmpty();
+    }
+
+    @Test
+    void shouldFollowSampledFlagOfIncomingTraceparent() {
+        // Given
+        Tracer tracer = new Tracer(exported::add, true, 0.0, 256);
+
+        // When
+        Span sampled = tracer.startTrace("GET /api/stats",
+                "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+        tracer.end(sampled);
+        Span notSampled = tracer.startTrace("GET /api/stats",
+                "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00");
+
+        // Then
+        assertThat(sampled.getTraceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(sampled.getParentSpanId()).isEqualTo("00f067aa0ba902b7");
+        assertThat(notSampled).isNull();
+        assertThat(exported).hasSize(1);
+    }
+
+    @Test
+    void shouldCapSpansButKeepRoot() {
+        // Given
+        Tracer tracer = new Tracer(exported::add, true, 1.0, 3);
+
+        // When
+        Span root = tracer.startTrace("POST /api/words/bulk", null);
+        for (int i = 0; i < 5; i++) {
+            tracer.end(tracer.startSpan("WordPairRepository.save", SpanKind.CLIENT));
+        }
+        tracer.end(root);
+
+        // Then
+        assertThat(exported.get(0)).hasSize(3).endsWith(root);
+        assertThat(root.getAttributes()).containsEntry("tracing.dropped_spans", 3);
+    }
+}